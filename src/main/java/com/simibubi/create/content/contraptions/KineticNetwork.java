@@ -1,30 +1,49 @@
 package com.simibubi.create.content.contraptions;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.Arrays;
 
 import com.simibubi.create.content.contraptions.base.KineticTileEntity;
 import com.simibubi.create.content.contraptions.components.flywheel.FlywheelTileEntity;
+import com.simibubi.create.content.contraptions.relays.gauge.StressGaugeTileEntity;
 import com.simibubi.create.foundation.advancement.AllTriggers;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
 public class KineticNetwork {
 
+	private static final int INITIAL_CAPACITY = 16;
+
 	public Long id;
 	public boolean initialized;
 	public boolean containsFlywheel;
-	public Map<KineticTileEntity, Float> sources;
-	public Map<KineticTileEntity, Float> members;
 
+	// Dense member table, indexed through memberIndex. Entries are swap-removed.
+	private Object2IntMap<KineticTileEntity> memberIndex;
+	private KineticTileEntity[] members;
+	private float[] stressImpacts;
+	private float[] stressMultipliers;
+	private float[] capacities;
+	private float[] capacityMultipliers;
+	private int memberCount;
+
+	private double presentStress;
+	private double presentCapacity;
 	private float currentCapacity;
 	private float currentStress;
 	private float unloadedCapacity;
 	private float unloadedStress;
 	private int unloadedMembers;
+	private boolean syncPending;
 
 	public KineticNetwork() {
-		sources = new HashMap<>();
-		members = new HashMap<>();
+		memberIndex = new Object2IntOpenHashMap<>();
+		memberIndex.defaultReturnValue(-1);
+		members = new KineticTileEntity[INITIAL_CAPACITY];
+		stressImpacts = new float[INITIAL_CAPACITY];
+		stressMultipliers = new float[INITIAL_CAPACITY];
+		capacities = new float[INITIAL_CAPACITY];
+		capacityMultipliers = new float[INITIAL_CAPACITY];
 		containsFlywheel = false;
 	}
 
@@ -38,18 +57,18 @@ public class KineticNetwork {
 	}
 
 	public void addSilently(KineticTileEntity te, float lastCapacity, float lastStress) {
-		if (members.containsKey(te))
+		if (contains(te))
 			return;
+		float addedStressCapacity = 0;
 		if (te.isSource()) {
 			unloadedCapacity -= lastCapacity * getStressMultiplierForSpeed(te.getGeneratedSpeed());
-			float addedStressCapacity = te.calculateAddedStressCapacity();
-			sources.put(te, addedStressCapacity);
+			addedStressCapacity = te.calculateAddedStressCapacity();
 			containsFlywheel |= te instanceof FlywheelTileEntity;
 		}
 
 		unloadedStress -= lastStress * getStressMultiplierForSpeed(te.getTheoreticalSpeed());
 		float stressApplied = te.calculateStressApplied();
-		members.put(te, stressApplied);
+		addMember(te, stressApplied, addedStressCapacity);
 
 		unloadedMembers--;
 		if (unloadedMembers < 0)
@@ -61,48 +80,98 @@ public class KineticNetwork {
 	}
 
 	public void add(KineticTileEntity te) {
-		if (members.containsKey(te))
+		if (contains(te))
 			return;
-		if (te.isSource())
-			sources.put(te, te.calculateAddedStressCapacity());
-		members.put(te, te.calculateStressApplied());
+		float addedStressCapacity = 0;
+		if (te.isSource()) {
+			addedStressCapacity = te.calculateAddedStressCapacity();
+			containsFlywheel |= te instanceof FlywheelTileEntity;
+		}
+		addMember(te, te.calculateStressApplied(), addedStressCapacity);
 		updateFromNetwork(te);
 		te.networkDirty = true;
 	}
 
 	public void updateCapacityFor(KineticTileEntity te, float capacity) {
-		sources.put(te, capacity);
+		int index = memberIndex.getInt(te);
+		if (index == -1)
+			return;
+		presentCapacity -= (double) capacities[index] * capacityMultipliers[index];
+		capacities[index] = capacity;
+		capacityMultipliers[index] = getStressMultiplierForSpeed(te.getGeneratedSpeed());
+		presentCapacity += (double) capacities[index] * capacityMultipliers[index];
+		containsFlywheel |= te instanceof FlywheelTileEntity;
 		updateCapacity();
 	}
 
 	public void updateStressFor(KineticTileEntity te, float stress) {
-		members.put(te, stress);
+		int index = memberIndex.getInt(te);
+		if (index == -1)
+			return;
+		presentStress -= (double) stressImpacts[index] * stressMultipliers[index];
+		stressImpacts[index] = stress;
+		stressMultipliers[index] = getStressMultiplierForSpeed(te.getTheoreticalSpeed());
+		presentStress += (double) stressImpacts[index] * stressMultipliers[index];
+		updateStress();
+	}
+
+	/**
+	 * Re-account the stress of a member after its speed was changed.
+	 *
+	 * @param te
+	 */
+	public void updateSpeedOf(KineticTileEntity te) {
+		int index = memberIndex.getInt(te);
+		if (index == -1)
+			return;
+		float multiplier = getStressMultiplierForSpeed(te.getTheoreticalSpeed());
+		if (multiplier == stressMultipliers[index])
+			return;
+		presentStress += (double) stressImpacts[index] * (multiplier - stressMultipliers[index]);
+		stressMultipliers[index] = multiplier;
 		updateStress();
 	}
 
 	public void remove(KineticTileEntity te) {
-		if (!members.containsKey(te))
+		if (!contains(te))
 			return;
-		if (te.isSource())
-			sources.remove(te);
-		members.remove(te);
+		removeMember(te);
 		te.updateFromNetwork(0, 0, 0);
 
-		if (members.isEmpty()) {
+		if (memberCount == 0) {
 			TorquePropagator.networks.get(te.getWorld())
 				.remove(this.id);
 			return;
 		}
 
-		members.keySet()
-			.stream()
-			.findFirst()
-			.map(member -> member.networkDirty = true);
+		members[0].networkDirty = true;
+	}
+
+	public boolean contains(KineticTileEntity te) {
+		return memberIndex.containsKey(te);
+	}
+
+	/**
+	 * Push the current totals to members whose overstressed state flipped since
+	 * the last sync. Called once per tick by the {@link TorquePropagator}.
+	 */
+	public void tick() {
+		if (!syncPending)
+			return;
+		syncPending = false;
+		sync();
 	}
 
 	public void sync() {
-		for (KineticTileEntity te : members.keySet())
-			updateFromNetwork(te);
+		int size = getSize();
+		for (int i = 0; i < memberCount; i++) {
+			KineticTileEntity te = members[i];
+			if (te.isOverStressed() != te.wouldBeOverStressed(currentCapacity, currentStress)
+				|| te instanceof StressGaugeTileEntity)
+				updateFromNetwork(te);
+			else
+				te.setNetworkStats(currentCapacity, currentStress, size);
+		}
 	}
 
 	private void updateFromNetwork(KineticTileEntity te) {
@@ -119,7 +188,7 @@ public class KineticNetwork {
 		float newMaxStress = calculateCapacity();
 		if (currentCapacity != newMaxStress) {
 			currentCapacity = newMaxStress;
-			sync();
+			syncPending = true;
 		}
 	}
 
@@ -127,60 +196,66 @@ public class KineticNetwork {
 		float newStress = calculateStress();
 		if (currentStress != newStress) {
 			currentStress = newStress;
-			sync();
+			syncPending = true;
 		}
 	}
 
+	/**
+	 * Revalidate all members and rebuild the running totals from scratch. This
+	 * drops members that are no longer present in the world and picks up speed
+	 * changes that bypassed {@link #updateSpeedOf(KineticTileEntity)}.
+	 */
 	public void updateNetwork() {
+		double stress = 0;
+		double capacity = 0;
+		containsFlywheel = false;
+
+		for (int i = 0; i < memberCount;) {
+			KineticTileEntity te = members[i];
+			if (te.getWorld()
+				.getTileEntity(te.getPos()) != te) {
+				removeMember(te);
+				continue;
+			}
+
+			stressMultipliers[i] = getStressMultiplierForSpeed(te.getTheoreticalSpeed());
+			stress += (double) stressImpacts[i] * stressMultipliers[i];
+			if (capacities[i] != 0) {
+				capacityMultipliers[i] = getStressMultiplierForSpeed(te.getGeneratedSpeed());
+				capacity += (double) capacities[i] * capacityMultipliers[i];
+				containsFlywheel |= te instanceof FlywheelTileEntity;
+			}
+			i++;
+		}
+
+		presentStress = stress;
+		presentCapacity = capacity;
+
 		float newStress = calculateStress();
 		float newMaxStress = calculateCapacity();
 		if (currentStress != newStress || currentCapacity != newMaxStress) {
 			currentStress = newStress;
 			currentCapacity = newMaxStress;
-			sync();
+			syncPending = true;
 		}
 	}
 
 	public float calculateCapacity() {
-		float presentCapacity = 0;
-		containsFlywheel = false;
-		for (Iterator<KineticTileEntity> iterator = sources.keySet()
-			.iterator(); iterator.hasNext();) {
-			KineticTileEntity te = iterator.next();
-			if (te.getWorld()
-				.getTileEntity(te.getPos()) != te) {
-				iterator.remove();
-				continue;
-			}
-			containsFlywheel |= te instanceof FlywheelTileEntity;
-			presentCapacity += getActualCapacityOf(te);
-		}
-		float newMaxStress = presentCapacity + unloadedCapacity;
-		return newMaxStress;
+		return (float) presentCapacity + unloadedCapacity;
 	}
 
 	public float calculateStress() {
-		float presentStress = 0;
-		for (Iterator<KineticTileEntity> iterator = members.keySet()
-			.iterator(); iterator.hasNext();) {
-			KineticTileEntity te = iterator.next();
-			if (te.getWorld()
-				.getTileEntity(te.getPos()) != te) {
-				iterator.remove();
-				continue;
-			}
-			presentStress += getActualStressOf(te);
-		}
-		float newStress = presentStress + unloadedStress;
-		return newStress;
+		return (float) presentStress + unloadedStress;
 	}
 
 	public float getActualCapacityOf(KineticTileEntity te) {
-		return sources.get(te) * getStressMultiplierForSpeed(te.getGeneratedSpeed());
+		int index = memberIndex.getInt(te);
+		return index == -1 ? 0 : capacities[index] * getStressMultiplierForSpeed(te.getGeneratedSpeed());
 	}
 
 	public float getActualStressOf(KineticTileEntity te) {
-		return members.get(te) * getStressMultiplierForSpeed(te.getTheoreticalSpeed());
+		int index = memberIndex.getInt(te);
+		return index == -1 ? 0 : stressImpacts[index] * getStressMultiplierForSpeed(te.getTheoreticalSpeed());
 	}
 
 	private static float getStressMultiplierForSpeed(float speed) {
@@ -188,7 +263,50 @@ public class KineticNetwork {
 	}
 
 	public int getSize() {
-		return unloadedMembers + members.size();
+		return unloadedMembers + memberCount;
+	}
+
+	private void addMember(KineticTileEntity te, float stressImpact, float capacity) {
+		if (memberCount == members.length) {
+			int newLength = members.length * 2;
+			members = Arrays.copyOf(members, newLength);
+			stressImpacts = Arrays.copyOf(stressImpacts, newLength);
+			stressMultipliers = Arrays.copyOf(stressMultipliers, newLength);
+			capacities = Arrays.copyOf(capacities, newLength);
+			capacityMultipliers = Arrays.copyOf(capacityMultipliers, newLength);
+		}
+
+		int index = memberCount++;
+		members[index] = te;
+		stressImpacts[index] = stressImpact;
+		stressMultipliers[index] = getStressMultiplierForSpeed(te.getTheoreticalSpeed());
+		capacities[index] = capacity;
+		capacityMultipliers[index] = capacity == 0 ? 0 : getStressMultiplierForSpeed(te.getGeneratedSpeed());
+		memberIndex.put(te, index);
+
+		presentStress += (double) stressImpact * stressMultipliers[index];
+		presentCapacity += (double) capacity * capacityMultipliers[index];
+	}
+
+	private void removeMember(KineticTileEntity te) {
+		int index = memberIndex.removeInt(te);
+		if (index == -1)
+			return;
+
+		presentStress -= (double) stressImpacts[index] * stressMultipliers[index];
+		presentCapacity -= (double) capacities[index] * capacityMultipliers[index];
+
+		int last = --memberCount;
+		if (index != last) {
+			KineticTileEntity moved = members[last];
+			members[index] = moved;
+			stressImpacts[index] = stressImpacts[last];
+			stressMultipliers[index] = stressMultipliers[last];
+			capacities[index] = capacities[last];
+			capacityMultipliers[index] = capacityMultipliers[last];
+			memberIndex.put(moved, index);
+		}
+		members[last] = null;
 	}
 
 }
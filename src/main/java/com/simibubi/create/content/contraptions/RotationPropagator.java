@@ -2,8 +2,14 @@ package com.simibubi.create.content.contraptions;
 
 import static net.minecraft.state.properties.BlockStateProperties.AXIS;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.content.contraptions.base.IRotate;
@@ -18,6 +24,7 @@ import com.simibubi.create.content.contraptions.relays.encased.SplitShaftTileEnt
 import com.simibubi.create.content.contraptions.relays.gearbox.GearboxTileEntity;
 import com.simibubi.create.foundation.config.AllConfigs;
 import com.simibubi.create.foundation.utility.Iterate;
+import com.simibubi.create.foundation.utility.WorldAttached;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -25,11 +32,13 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
 public class RotationPropagator {
 
 	private static final int MAX_FLICKER_SCORE = 128;
+	private static final WorldAttached<Set<KineticTileEntity>> PENDING_SYNCS = new WorldAttached<>(LinkedHashSet::new);
 
 	/**
 	 * Determines the change in rotation between two attached kinetic entities. For
@@ -214,14 +223,38 @@ public class RotationPropagator {
 
 	/**
 	 * Search for sourceless networks attached to the given entity and update them.
+	 * Runs as a single worklist pass; blocks that fail to connect are broken once
+	 * the pass has finished.
 	 * 
-	 * @param currentTE
+	 * @param sourceTE
 	 */
-	private static void propagateNewSource(KineticTileEntity currentTE) {
+	private static void propagateNewSource(KineticTileEntity sourceTE) {
+		World world = sourceTE.getWorld();
+		Deque<KineticTileEntity> frontier = new ArrayDeque<>();
+		Set<BlockPos> toDestroy = new LinkedHashSet<>();
+		frontier.push(sourceTE);
+
+		while (!frontier.isEmpty()) {
+			KineticTileEntity currentTE = frontier.pop();
+			BlockPos pos = currentTE.getPos();
+			if (currentTE.isRemoved() || toDestroy.contains(pos))
+				continue;
+			propagateFrom(currentTE, frontier, toDestroy);
+		}
+
+		for (BlockPos pos : toDestroy)
+			world.destroyBlock(pos, true);
+	}
+
+	private static void propagateFrom(KineticTileEntity currentTE, Deque<KineticTileEntity> frontier,
+		Set<BlockPos> toDestroy) {
 		BlockPos pos = currentTE.getPos();
-		World world = currentTE.getWorld();
 
 		for (KineticTileEntity neighbourTE : getConnectedNeighbours(currentTE)) {
+			// Blocks about to break no longer convey rotation
+			if (toDestroy.contains(neighbourTE.getPos()))
+				continue;
+
 			float speedOfCurrent = currentTE.getTheoreticalSpeed();
 			float speedOfNeighbour = neighbourTE.getTheoreticalSpeed();
 			float newSpeed = getConveyedSpeed(currentTE, neighbourTE);
@@ -229,20 +262,20 @@ public class RotationPropagator {
 
 			if (newSpeed == 0 && oppositeSpeed == 0)
 				continue;
-			
+
 			boolean incompatible =
 				Math.signum(newSpeed) != Math.signum(speedOfNeighbour) && (newSpeed != 0 && speedOfNeighbour != 0);
 
 			boolean tooFast = Math.abs(newSpeed) > AllConfigs.SERVER.kinetics.maxRotationSpeed.get();
 			boolean speedChangedTooOften = currentTE.getFlickerScore() > MAX_FLICKER_SCORE;
 			if (tooFast || speedChangedTooOften) {
-				world.destroyBlock(pos, true);
+				toDestroy.add(pos);
 				return;
 			}
 
 			// Opposite directions
 			if (incompatible) {
-				world.destroyBlock(pos, true);
+				toDestroy.add(pos);
 				return;
 
 				// Same direction: overpower the slower speed
@@ -254,9 +287,9 @@ public class RotationPropagator {
 					currentTE.setSource(neighbourTE.getPos());
 					currentTE.setSpeed(getConveyedSpeed(neighbourTE, currentTE));
 					currentTE.onSpeedChanged(prevSpeed);
-					currentTE.sendData();
+					queueSync(currentTE);
 
-					propagateNewSource(currentTE);
+					frontier.push(currentTE);
 					return;
 				}
 
@@ -266,8 +299,10 @@ public class RotationPropagator {
 					// Do not overpower you own network -> cycle
 					if (!currentTE.hasNetwork() || currentTE.network.equals(neighbourTE.network)) {
 						float epsilon = Math.abs(speedOfNeighbour) / 256f / 256f;
-						if (Math.abs(newSpeed) > Math.abs(speedOfNeighbour) + epsilon)
-							world.destroyBlock(pos, true);
+						if (Math.abs(newSpeed) > Math.abs(speedOfNeighbour) + epsilon) {
+							toDestroy.add(pos);
+							return;
+						}
 						continue;
 					}
 
@@ -278,8 +313,8 @@ public class RotationPropagator {
 					neighbourTE.setSource(currentTE.getPos());
 					neighbourTE.setSpeed(getConveyedSpeed(currentTE, neighbourTE));
 					neighbourTE.onSpeedChanged(prevSpeed);
-					neighbourTE.sendData();
-					propagateNewSource(neighbourTE);
+					queueSync(neighbourTE);
+					frontier.push(neighbourTE);
 					continue;
 				}
 			}
@@ -291,8 +326,8 @@ public class RotationPropagator {
 			neighbourTE.setSpeed(newSpeed);
 			neighbourTE.setSource(currentTE.getPos());
 			neighbourTE.onSpeedChanged(prevSpeed);
-			neighbourTE.sendData();
-			propagateNewSource(neighbourTE);
+			queueSync(neighbourTE);
+			frontier.push(neighbourTE);
 
 		}
 	}
@@ -338,20 +373,20 @@ public class RotationPropagator {
 	private static void propagateMissingSource(KineticTileEntity updateTE) {
 		final World world = updateTE.getWorld();
 
-		List<KineticTileEntity> potentialNewSources = new LinkedList<>();
-		List<BlockPos> frontier = new LinkedList<>();
+		List<KineticTileEntity> potentialNewSources = new ArrayList<>();
+		Deque<BlockPos> frontier = new ArrayDeque<>();
 		frontier.add(updateTE.getPos());
 		BlockPos missingSource = updateTE.hasSource() ? updateTE.source : null;
 
 		while (!frontier.isEmpty()) {
-			final BlockPos pos = frontier.remove(0);
+			final BlockPos pos = frontier.poll();
 			TileEntity tileEntity = world.getTileEntity(pos);
 			if (!(tileEntity instanceof KineticTileEntity))
 				continue;
 			final KineticTileEntity currentTE = (KineticTileEntity) tileEntity;
 
 			currentTE.removeSource();
-			currentTE.sendData();
+			queueSync(currentTE);
 
 			for (KineticTileEntity neighbourTE : getConnectedNeighbours(currentTE)) {
 				if (neighbourTE.getPos()
@@ -380,6 +415,40 @@ public class RotationPropagator {
 		}
 	}
 
+	/**
+	 * Defer the client sync of a changed entity to the end of the world tick, so
+	 * that large networks send one update per entity per tick.
+	 * 
+	 * @param te
+	 */
+	private static void queueSync(KineticTileEntity te) {
+		PENDING_SYNCS.get(te.getWorld())
+			.add(te);
+	}
+
+	/**
+	 * Flush all queued kinetic syncs of the given world, grouped by chunk.
+	 * 
+	 * @param world
+	 */
+	public static void tick(World world) {
+		if (world.isRemote)
+			return;
+		Set<KineticTileEntity> pending = PENDING_SYNCS.get(world);
+		if (pending.isEmpty())
+			return;
+
+		List<KineticTileEntity> toSync = new ArrayList<>(pending);
+		pending.clear();
+		toSync.sort(Comparator.comparingLong(te -> new ChunkPos(te.getPos()).asLong()));
+
+		for (KineticTileEntity te : toSync) {
+			if (te.isRemoved() || te.getWorld() != world)
+				continue;
+			te.sendData();
+		}
+	}
+
 	private static KineticTileEntity findConnectedNeighbour(KineticTileEntity currentTE, BlockPos neighbourPos) {
 		BlockState neighbourState = currentTE.getWorld()
 			.getBlockState(neighbourPos);
@@ -409,7 +478,7 @@ public class RotationPropagator {
 	}
 
 	private static List<KineticTileEntity> getConnectedNeighbours(KineticTileEntity te) {
-		List<KineticTileEntity> neighbours = new LinkedList<>();
+		List<KineticTileEntity> neighbours = new ArrayList<>();
 		for (BlockPos neighbourPos : getPotentialNeighbourLocations(te)) {
 			final KineticTileEntity neighbourTE = findConnectedNeighbour(te, neighbourPos);
 			if (neighbourTE == null)
@@ -1,8 +1,11 @@
 package com.simibubi.create.content.contraptions;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import com.simibubi.create.Create;
 import com.simibubi.create.content.contraptions.base.KineticTileEntity;
 import com.simibubi.create.foundation.utility.WorldHelper;
@@ -23,6 +26,14 @@ public class TorquePropagator {
 		Create.logger.debug("Removed Kinetic Network Space for " + WorldHelper.getDimensionID(world));
 	}
 
+	public void tick(IWorld world) {
+		Map<Long, KineticNetwork> map = networks.get(world);
+		if (map == null)
+			return;
+		for (KineticNetwork network : new ArrayList<>(map.values()))
+			network.tick();
+	}
+
 	public KineticNetwork getOrCreateNetworkFor(KineticTileEntity te) {
 		Long id = te.network;
 		KineticNetwork network;
@@ -39,4 +50,17 @@ public class TorquePropagator {
 		return network;
 	}
 
+	/**
+	 * Like {@link #getOrCreateNetworkFor}, but does not bring back a network that
+	 * was removed after its last member left.
+	 */
+	@Nullable
+	public KineticNetwork getNetworkFor(KineticTileEntity te) {
+		Long id = te.network;
+		Map<Long, KineticNetwork> map = networks.get(te.getWorld());
+		if (id == null || map == null)
+			return null;
+		return map.get(id);
+	}
+
 }
@@ -140,11 +140,8 @@ public abstract class KineticTileEntity extends SmartTileEntity
 	}
 
 	public void updateFromNetwork(float maxStress, float currentStress, int networkSize) {
-		networkDirty = false;
-		this.capacity = maxStress;
-		this.stress = currentStress;
-		this.networkSize = networkSize;
-		boolean overStressed = maxStress < currentStress && StressImpact.isEnabled();
+		setNetworkStats(maxStress, currentStress, networkSize);
+		boolean overStressed = wouldBeOverStressed(maxStress, currentStress);
 
 		if (overStressed != this.overStressed) {
 			float prevSpeed = getSpeed();
@@ -154,6 +151,21 @@ public abstract class KineticTileEntity extends SmartTileEntity
 		}
 	}
 
+	/**
+	 * Store the network totals without reacting to them. Used by the network for
+	 * members whose overstressed state does not change.
+	 */
+	public void setNetworkStats(float maxStress, float currentStress, int networkSize) {
+		networkDirty = false;
+		this.capacity = maxStress;
+		this.stress = currentStress;
+		this.networkSize = networkSize;
+	}
+
+	public boolean wouldBeOverStressed(float maxStress, float currentStress) {
+		return maxStress < currentStress && StressImpact.isEnabled();
+	}
+
 	public float calculateAddedStressCapacity() {
 		float capacity = (float) AllConfigs.SERVER.kinetics.stressValues.getCapacityOf(getStressConfigKey());
 		this.lastCapacityProvided = capacity;
@@ -175,6 +187,7 @@ public abstract class KineticTileEntity extends SmartTileEntity
 		boolean directionSwap = !fromOrToZero && Math.signum(previousSpeed) != Math.signum(getSpeed());
 		if (fromOrToZero || directionSwap)
 			flickerTally = getFlickerScore() + 5;
+		wakeBehaviours();
 	}
 
 	@Override
@@ -275,6 +288,11 @@ public abstract class KineticTileEntity extends SmartTileEntity
 
 	public void setSpeed(float speed) {
 		this.speed = speed;
+		if (!hasNetwork() || world == null || world.isRemote)
+			return;
+		KineticNetwork network = Create.torquePropagator.getNetworkFor(this);
+		if (network != null)
+			network.updateSpeedOf(this);
 	}
 
 	public boolean hasSource() {
@@ -4,6 +4,8 @@ import static com.simibubi.create.foundation.utility.AngleHelper.deg;
 import static com.simibubi.create.foundation.utility.AngleHelper.getShortestAngleDiff;
 import static com.simibubi.create.foundation.utility.AngleHelper.rad;
 
+import java.util.Set;
+
 import com.simibubi.create.content.contraptions.base.KineticTileEntity;
 import com.simibubi.create.foundation.advancement.AllTriggers;
 import com.simibubi.create.foundation.gui.widgets.InterpolatedChasingValue;
@@ -52,6 +54,12 @@ public class CuckooClockTileEntity extends KineticTileEntity {
 		}
 	}
 	
+	@Override
+	protected void collectSyncEventKeys(Set<String> keys) {
+		super.collectSyncEventKeys(keys);
+		keys.add("Animation");
+	}
+
 	@Override
 	public void write(CompoundNBT compound, boolean clientPacket) {
 		if (clientPacket && sendAnimationUpdate)
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -124,6 +125,12 @@ public class MechanicalCrafterTileEntity extends KineticTileEntity {
 		return MechanicalCrafterBlock.getTargetDirection(getBlockState());
 	}
 
+	@Override
+	protected void collectSyncEventKeys(Set<String> keys) {
+		super.collectSyncEventKeys(keys);
+		keys.add("Redraw");
+	}
+
 	@Override
 	public void write(CompoundNBT compound, boolean clientPacket) {
 		compound.put("Inventory", inventory.serializeNBT());
@@ -33,6 +33,7 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockRayTraceResult;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.MutableBoundingBox;
 import net.minecraft.util.math.shapes.ISelectionContext;
 import net.minecraft.util.math.shapes.VoxelShape;
 import net.minecraft.util.math.shapes.VoxelShapes;
@@ -58,6 +59,9 @@ public class AirCurrent {
 		new ArrayList<>();
 	protected List<Entity> caughtEntities = new ArrayList<>();
 
+	MutableBoundingBox trackedRange;
+	private boolean invalidated;
+
 	public AirCurrent(IAirCurrentSource source) {
 		this.source = source;
 	}
@@ -166,10 +170,13 @@ public class AirCurrent {
 	}
 
 	public void rebuild() {
+		invalidated = false;
 		if (source.getSpeed() == 0) {
 			maxDistance = 0;
 			segments.clear();
+			affectedItemHandlers.clear();
 			bounds = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
+			untrack();
 			return;
 		}
 
@@ -184,6 +191,15 @@ public class AirCurrent {
 		Vector3d directionVec = Vector3d.of(facing.getDirectionVec());
 		maxDistance = getFlowLimit(world, start, max, facing);
 
+		// Anything changing within the full range may affect the flow or its handlers
+		if (world != null && !world.isRemote) {
+			BlockPos rangeEnd = start.offset(facing, MathHelper.ceil(max));
+			MutableBoundingBox range = new MutableBoundingBox(start.offset(facing), rangeEnd);
+			range.expandTo(new MutableBoundingBox(start.offset(facing)
+				.down(), rangeEnd.down()));
+			AirCurrentTracker.track(this, world, range);
+		}
+
 		// Determine segments with transported fluids/gases
 		AirCurrentSegment currentSegment = new AirCurrentSegment();
 		segments.clear();
@@ -281,8 +297,25 @@ public class AirCurrent {
 
 	public void findEntities() {
 		caughtEntities.clear();
-		caughtEntities = source.getAirCurrentWorld()
-			.getEntitiesWithinAABBExcludingEntity(null, bounds);
+		caughtEntities = AirCurrentTracker.getEntitiesWithin(source.getAirCurrentWorld(), bounds);
+	}
+
+	/**
+	 * Mark this current for a rebuild, called when a block inside its range
+	 * changes.
+	 */
+	public void invalidate() {
+		invalidated = true;
+	}
+
+	public boolean isInvalidated() {
+		return invalidated;
+	}
+
+	public void untrack() {
+		World world = source.getAirCurrentWorld();
+		if (world != null)
+			AirCurrentTracker.untrack(this, world);
 	}
 
 	public void findAffectedHandlers() {
@@ -0,0 +1,146 @@
+package com.simibubi.create.content.contraptions.components.fan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.MutableBoundingBox;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+
+/**
+ * Keeps track of the blocks each air current depends on, so currents are only
+ * rebuilt when something inside their range changes. Also shares entity
+ * lookups between currents, one query per chunk section per tick.
+ */
+public class AirCurrentTracker {
+
+	/** Ticks between entity searches of fans and chutes. */
+	public static final int ENTITY_SEARCH_INTERVAL = 5;
+
+	private static final WorldAttached<Long2ObjectMap<Set<AirCurrent>>> TRACKED =
+		new WorldAttached<>(Long2ObjectOpenHashMap::new);
+	private static final WorldAttached<EntityBuckets> ENTITY_BUCKETS = new WorldAttached<>(EntityBuckets::new);
+
+	public static void track(AirCurrent current, IWorld world, MutableBoundingBox range) {
+		untrack(current, world);
+		current.trackedRange = range;
+		Long2ObjectMap<Set<AirCurrent>> tracked = TRACKED.get(world);
+		for (int x = range.minX >> 4; x <= range.maxX >> 4; x++)
+			for (int z = range.minZ >> 4; z <= range.maxZ >> 4; z++)
+				tracked.computeIfAbsent(ChunkPos.asLong(x, z), $ -> Collections.newSetFromMap(new IdentityHashMap<>()))
+					.add(current);
+	}
+
+	public static void untrack(AirCurrent current, IWorld world) {
+		MutableBoundingBox range = current.trackedRange;
+		if (range == null)
+			return;
+		current.trackedRange = null;
+		Long2ObjectMap<Set<AirCurrent>> tracked = TRACKED.get(world);
+		for (int x = range.minX >> 4; x <= range.maxX >> 4; x++)
+			for (int z = range.minZ >> 4; z <= range.maxZ >> 4; z++) {
+				long key = ChunkPos.asLong(x, z);
+				Set<AirCurrent> currents = tracked.get(key);
+				if (currents == null)
+					continue;
+				currents.remove(current);
+				if (currents.isEmpty())
+					tracked.remove(key);
+			}
+	}
+
+	public static void onBlockChanged(IWorld world, BlockPos pos) {
+		Set<AirCurrent> currents = TRACKED.get(world)
+			.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+		if (currents == null)
+			return;
+		for (AirCurrent current : currents)
+			if (current.trackedRange != null && current.trackedRange.isVecInside(pos))
+				current.invalidate();
+	}
+
+	/**
+	 * Whether fans and chutes should search for entities this tick. All searches of
+	 * a world fall on the same tick, so overlapping ones share their section lookups.
+	 */
+	public static boolean isEntitySearchTick(World world) {
+		return world.getGameTime() % ENTITY_SEARCH_INTERVAL == 0;
+	}
+
+	public static List<Entity> getEntitiesWithin(World world, AxisAlignedBB bounds) {
+		return ENTITY_BUCKETS.get(world)
+			.getEntitiesWithin(world, bounds);
+	}
+
+	/**
+	 * Drops the entity lookups of the finished tick, so no entity is kept alive by
+	 * the tracker between ticks.
+	 */
+	public static void tick(World world) {
+		ENTITY_BUCKETS.get(world)
+			.clear();
+	}
+
+	private static class EntityBuckets {
+
+		private long gameTime = Long.MIN_VALUE;
+		private Long2ObjectMap<List<Entity>> sections = new Long2ObjectOpenHashMap<>();
+
+		private List<Entity> getEntitiesWithin(World world, AxisAlignedBB bounds) {
+			long time = world.getGameTime();
+			if (time != gameTime) {
+				gameTime = time;
+				sections.clear();
+			}
+
+			List<Entity> result = new ArrayList<>();
+			Set<Entity> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+			int minX = MathHelper.floor(bounds.minX) >> 4, maxX = MathHelper.floor(bounds.maxX) >> 4;
+			int minY = MathHelper.floor(bounds.minY) >> 4, maxY = MathHelper.floor(bounds.maxY) >> 4;
+			int minZ = MathHelper.floor(bounds.minZ) >> 4, maxZ = MathHelper.floor(bounds.maxZ) >> 4;
+
+			for (int x = minX; x <= maxX; x++)
+				for (int y = minY; y <= maxY; y++)
+					for (int z = minZ; z <= maxZ; z++) {
+						for (Entity entity : getBucket(world, x, y, z))
+							if (entity.getBoundingBox()
+								.intersects(bounds) && seen.add(entity))
+								result.add(entity);
+					}
+
+			return result;
+		}
+
+		private List<Entity> getBucket(World world, int x, int y, int z) {
+			long key = SectionPos.asLong(x, y, z);
+			List<Entity> bucket = sections.get(key);
+			if (bucket == null) {
+				AxisAlignedBB sectionBB =
+					new AxisAlignedBB(x << 4, y << 4, z << 4, (x + 1) << 4, (y + 1) << 4, (z + 1) << 4);
+				bucket = world.getEntitiesWithinAABBExcludingEntity(null, sectionBB);
+				sections.put(key, bucket);
+			}
+			return bucket;
+		}
+
+		private void clear() {
+			gameTime = Long.MIN_VALUE;
+			sections.clear();
+		}
+
+	}
+
+}
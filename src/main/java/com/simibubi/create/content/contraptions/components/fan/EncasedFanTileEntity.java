@@ -22,6 +22,8 @@ import net.minecraft.world.World;
 @MethodsReturnNonnullByDefault
 public class EncasedFanTileEntity extends GeneratingKineticTileEntity implements IAirCurrentSource {
 
+	private static final int TRACKED_CHECK_RATE_MULTIPLIER = 10;
+
 	public AirCurrent airCurrent;
 	protected int airCurrentUpdateCooldown;
 	protected int entitySearchCooldown;
@@ -172,17 +174,35 @@ public class EncasedFanTileEntity extends GeneratingKineticTileEntity implements
 		updateAirFlow = true;
 	}
 
+	@Override
+	public void remove() {
+		airCurrent.untrack();
+		super.remove();
+	}
+
+	@Override
+	public void onChunkUnloaded() {
+		airCurrent.untrack();
+		super.onChunkUnloaded();
+	}
+
 	@Override
 	public void tick() {
 		super.tick();
 
 		boolean server = !world.isRemote || isVirtual();
-		
+
+		// Block changes in range invalidate the current. Changes that send no neighbour
+		// notification are still picked up by a slower poll; virtual worlds only poll
 		if (server && airCurrentUpdateCooldown-- <= 0) {
-			airCurrentUpdateCooldown = AllConfigs.SERVER.kinetics.fanBlockCheckRate.get();
+			int rate = AllConfigs.SERVER.kinetics.fanBlockCheckRate.get();
+			airCurrentUpdateCooldown = isVirtual() ? rate : rate * TRACKED_CHECK_RATE_MULTIPLIER;
 			updateAirFlow = true;
 		}
 
+		if (server && airCurrent.isInvalidated())
+			updateAirFlow = true;
+
 		if (updateAirFlow) {
 			updateAirFlow = false;
 			airCurrent.rebuild();
@@ -197,8 +217,9 @@ public class EncasedFanTileEntity extends GeneratingKineticTileEntity implements
 		if (getSpeed() == 0 || isGenerator)
 			return;
 
-		if (entitySearchCooldown-- <= 0) {
-			entitySearchCooldown = 5;
+		// Fans in the same world search in the same tick, so they share the entity lookups
+		if (isVirtual() ? entitySearchCooldown-- <= 0 : AirCurrentTracker.isEntitySearchTick(world)) {
+			entitySearchCooldown = AirCurrentTracker.ENTITY_SEARCH_INTERVAL;
 			airCurrent.findEntities();
 		}
 
@@ -3,6 +3,7 @@ package com.simibubi.create.content.contraptions.components.press;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.AllRecipeTypes;
@@ -90,6 +91,12 @@ public class MechanicalPressTileEntity extends BasinOperatingTileEntity {
 		}
 	}
 
+	@Override
+	protected void collectSyncEventKeys(Set<String> keys) {
+		super.collectSyncEventKeys(keys);
+		keys.add("ParticleItems");
+	}
+
 	@Override
 	public void write(CompoundNBT compound, boolean clientPacket) {
 		compound.putBoolean("Running", running);
@@ -7,10 +7,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
@@ -60,6 +58,7 @@ import com.simibubi.create.foundation.render.backend.light.EmptyLighter;
 import com.simibubi.create.foundation.render.backend.light.GridAlignedBB;
 import com.simibubi.create.foundation.tileEntity.behaviour.filtering.FilteringBehaviour;
 import com.simibubi.create.foundation.utility.BlockFace;
+import com.simibubi.create.foundation.utility.BlockPosSet;
 import com.simibubi.create.foundation.utility.Coordinate;
 import com.simibubi.create.foundation.utility.Iterate;
 import com.simibubi.create.foundation.utility.NBTHelper;
@@ -67,6 +66,8 @@ import com.simibubi.create.foundation.utility.NBTProcessors;
 import com.simibubi.create.foundation.utility.UniqueLinkedList;
 import com.simibubi.create.foundation.utility.worldWrappers.WrappedWorld;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.block.AbstractButtonBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -94,14 +95,13 @@ import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.Rotation;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.shapes.IBooleanFunction;
-import net.minecraft.util.math.shapes.VoxelShape;
-import net.minecraft.util.math.shapes.VoxelShapes;
+import net.minecraft.util.math.SectionPos;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.util.palette.HashMapPalette;
 import net.minecraft.village.PointOfInterestType;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.gen.feature.template.Template.BlockInfo;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
@@ -140,12 +140,24 @@ public abstract class Contraption {
 	private Map<BlockPos, Entity> initialPassengers;
 	private List<BlockFace> pendingSubContraptions;
 
+	private StructureSearch search;
+	private long assemblyBudget;
+	private boolean assemblyPending;
+	private boolean assemblyOutdated;
+
 	private CompletableFuture<Void> simplifiedEntityColliderProvider;
+	private ContraptionColliderGrid simplifiedEntityColliderGrid;
+
+	// Server, reused for every player starting to track in the same tick
+	private byte[] blockSnapshot;
+	private long blockSnapshotTime;
 
 	// Client
 	public Map<BlockPos, TileEntity> presentTileEntities;
 	public List<TileEntity> maybeInstancedTileEntities;
 	public List<TileEntity> specialRenderedTileEntities;
+	private ContraptionSnapshot.Receiver pendingBlocks;
+	private CompoundNBT pendingNBT;
 
 	protected ContraptionWorld world;
 
@@ -203,27 +215,105 @@ public abstract class Contraption {
 
 	public boolean searchMovedStructure(World world, BlockPos pos, @Nullable Direction forcedDirection)
 		throws AssemblyException {
-		initialPassengers.clear();
-		Queue<BlockPos> frontier = new UniqueLinkedList<>();
-		Set<BlockPos> visited = new HashSet<>();
-		anchor = pos;
+		assemblyPending = false;
+		assemblyOutdated = false;
 
-		if (bounds == null)
-			bounds = new AxisAlignedBB(BlockPos.ZERO);
+		if (search == null || !search.startsAt(pos, forcedDirection)) {
+			initialPassengers.clear();
+			search = new StructureSearch(pos, forcedDirection);
+			anchor = pos;
 
-		if (!BlockMovementTraits.isBrittle(world.getBlockState(pos)))
-			frontier.add(pos);
-		if (!addToInitialFrontier(world, pos, forcedDirection, frontier))
-			return false;
-		for (int limit = 100000; limit > 0; limit--) {
-			if (frontier.isEmpty())
-				return true;
-			if (!moveBlock(world, forcedDirection, frontier, visited))
+			if (bounds == null)
+				bounds = new AxisAlignedBB(BlockPos.ZERO);
+
+			if (!BlockMovementTraits.isBrittle(world.getBlockState(pos)))
+				search.frontier.add(pos);
+			if (!addToInitialFrontier(world, pos, forcedDirection, search.frontier)) {
+				search = null;
 				return false;
+			}
+		} else
+			search.resumed = true;
+
+		StructureSearch search = this.search;
+		long deadline = System.nanoTime() + assemblyBudget;
+		try {
+			for (; search.limit > 0; search.limit--) {
+				if (search.frontier.isEmpty()) {
+					this.search = null;
+					if (search.resumed && !capturedBlocksUnchanged(world, search)) {
+						assemblyOutdated = true;
+						return false;
+					}
+					return true;
+				}
+				if (assemblyBudget > 0 && System.nanoTime() > deadline) {
+					assemblyPending = true;
+					return false;
+				}
+				if (!moveBlock(world, forcedDirection, search.frontier, search.visited)) {
+					this.search = null;
+					return false;
+				}
+			}
+		} catch (AssemblyException e) {
+			this.search = null;
+			throw e;
 		}
+		this.search = null;
 		throw AssemblyException.structureTooLarge();
 	}
 
+	/**
+	 * Lets the structure search stop after the given time and continue on the next
+	 * call to {@link #assemble}, instead of visiting the whole structure at once.
+	 */
+	public void setAssemblyBudget(long nanos) {
+		assemblyBudget = nanos;
+	}
+
+	/**
+	 * Whether the last assembly attempt ran out of budget and has to be continued.
+	 */
+	public boolean isAssemblyPending() {
+		return assemblyPending;
+	}
+
+	/**
+	 * Whether the structure changed while being searched over several ticks. The
+	 * captured blocks are no longer valid and assembly has to start over.
+	 */
+	public boolean isAssemblyOutdated() {
+		return assemblyOutdated;
+	}
+
+	/**
+	 * Checks that blocks captured in earlier ticks are still in the state they were
+	 * captured in, with the same tile entities, and refreshes the tile entity data
+	 * so nothing that changed since is lost.
+	 */
+	private boolean capturedBlocksUnchanged(World world, StructureSearch search) {
+		for (Map.Entry<BlockPos, BlockState> entry : search.capturedStates.entrySet()) {
+			BlockPos pos = entry.getKey();
+			if (world.getBlockState(pos) != entry.getValue())
+				return false;
+			if (world.getTileEntity(pos) != search.capturedTiles.get(pos))
+				return false;
+		}
+		for (BlockInfo info : blocks.values()) {
+			if (info.nbt == null)
+				continue;
+			BlockPos pos = info.pos.add(anchor);
+			CompoundNBT current = getTileEntityNBT(world, pos);
+			if (current == null)
+				return false;
+			for (String key : new ArrayList<>(info.nbt.keySet()))
+				info.nbt.remove(key);
+			info.nbt.merge(current);
+		}
+		return true;
+	}
+
 	public void onEntityCreated(AbstractContraptionEntity entity) {
 		this.entity = entity;
 
@@ -293,6 +383,10 @@ public abstract class Contraption {
 	}
 
 	public void onEntityTick(World world) {
+		if (pendingBlocks != null)
+			tickPendingBlocks(world);
+		// Only players that start tracking within the same tick share a snapshot
+		blockSnapshot = null;
 		fluidStorage.forEach((pos, mfs) -> mfs.tick(entity, pos, world.isRemote));
 	}
 
@@ -607,6 +701,10 @@ public abstract class Contraption {
 		}
 		CompoundNBT compoundnbt = getTileEntityNBT(world, pos);
 		TileEntity tileentity = world.getTileEntity(pos);
+		if (search != null && assemblyBudget > 0) {
+			search.capturedStates.put(pos, world.getBlockState(pos));
+			search.capturedTiles.put(pos, tileentity);
+		}
 		return Pair.of(new BlockInfo(pos, blockstate, compoundnbt), tileentity);
 	}
 
@@ -673,21 +771,27 @@ public abstract class Contraption {
 		blocks.clear();
 		presentTileEntities.clear();
 		specialRenderedTileEntities.clear();
-
-		INBT blocks = nbt.get("Blocks");
-		// used to differentiate between the 'old' and the paletted serialization
-		boolean usePalettedDeserialization =
-			blocks != null && blocks.getId() == 10 && ((CompoundNBT) blocks).contains("Palette");
-		readBlocksCompound(blocks, world, usePalettedDeserialization);
+		pendingBlocks = null;
+		pendingNBT = null;
+
+		if (nbt.contains("StreamedBlocks")) {
+			// Blocks follow in separate packets, anything referring to them is read later
+			pendingBlocks = new ContraptionSnapshot.Receiver(nbt.getInt("StreamedBlocks"));
+			pendingNBT = nbt;
+		} else if (nbt.contains("BlockSnapshot")) {
+			ContraptionSnapshot.decode(nbt.getByteArray("BlockSnapshot"))
+				.forEach(info -> readBlock(info, world));
+		} else {
+			INBT blocks = nbt.get("Blocks");
+			// used to differentiate between the 'old' and the paletted serialization
+			boolean usePalettedDeserialization =
+				blocks != null && blocks.getId() == 10 && ((CompoundNBT) blocks).contains("Palette");
+			readBlocksCompound(blocks, world, usePalettedDeserialization);
+		}
 
 		actors.clear();
-		nbt.getList("Actors", 10)
-			.forEach(c -> {
-				CompoundNBT comp = (CompoundNBT) c;
-				BlockInfo info = this.blocks.get(NBTUtil.readBlockPos(comp.getCompound("Pos")));
-				MovementContext context = MovementContext.readNBT(world, info, comp, this);
-				getActors().add(MutablePair.of(info, context));
-			});
+		if (pendingBlocks == null)
+			readActors(world, nbt);
 
 		superglue.clear();
 		NBTHelper.iterateCompoundList(nbt.getList("Superglue", NBT.TAG_COMPOUND), c -> superglue
@@ -712,19 +816,8 @@ public abstract class Contraption {
 		NBTHelper.iterateCompoundList(nbt.getList("FluidStorage", NBT.TAG_COMPOUND), c -> fluidStorage
 			.put(NBTUtil.readBlockPos(c.getCompound("Pos")), MountedFluidStorage.deserialize(c.getCompound("Data"))));
 
-		if (spawnData)
-			fluidStorage.forEach((pos, mfs) -> {
-				TileEntity tileEntity = presentTileEntities.get(pos);
-				if (!(tileEntity instanceof FluidTankTileEntity))
-					return;
-				FluidTankTileEntity tank = (FluidTankTileEntity) tileEntity;
-				IFluidTank tankInventory = tank.getTankInventory();
-				if (tankInventory instanceof FluidTank)
-					((FluidTank) tankInventory).setFluid(mfs.tank.getFluid());
-				tank.getFluidLevel()
-					.start(tank.getFillState());
-				mfs.assignTileEntity(tank);
-			});
+		if (spawnData && pendingBlocks == null)
+			linkFluidTanks();
 
 		IItemHandlerModifiable[] handlers = new IItemHandlerModifiable[storage.size()];
 		int index = 0;
@@ -747,12 +840,74 @@ public abstract class Contraption {
 		anchor = NBTUtil.readBlockPos(nbt.getCompound("Anchor"));
 	}
 
+	private void readActors(World world, CompoundNBT nbt) {
+		nbt.getList("Actors", 10)
+			.forEach(c -> {
+				CompoundNBT comp = (CompoundNBT) c;
+				BlockInfo info = this.blocks.get(NBTUtil.readBlockPos(comp.getCompound("Pos")));
+				MovementContext context = MovementContext.readNBT(world, info, comp, this);
+				getActors().add(MutablePair.of(info, context));
+			});
+	}
+
+	private void linkFluidTanks() {
+		fluidStorage.forEach((pos, mfs) -> {
+			TileEntity tileEntity = presentTileEntities.get(pos);
+			if (!(tileEntity instanceof FluidTankTileEntity))
+				return;
+			FluidTankTileEntity tank = (FluidTankTileEntity) tileEntity;
+			IFluidTank tankInventory = tank.getTankInventory();
+			if (tankInventory instanceof FluidTank)
+				((FluidTank) tankInventory).setFluid(mfs.tank.getFluid());
+			tank.getFluidLevel()
+				.start(tank.getFillState());
+			mfs.assignTileEntity(tank);
+		});
+	}
+
+	/**
+	 * Whether the blocks of this contraption are available. Contraptions received
+	 * with a streamed snapshot stay empty until it has arrived and been decoded.
+	 */
+	public boolean isLoaded() {
+		return pendingBlocks == null;
+	}
+
+	public void receiveBlockChunk(int offset, byte[] chunk) {
+		if (pendingBlocks != null)
+			pendingBlocks.accept(offset, chunk);
+	}
+
+	private void tickPendingBlocks(World world) {
+		List<BlockInfo> received = pendingBlocks.poll();
+		if (received == null)
+			return;
+
+		received.forEach(info -> readBlock(info, world));
+		readActors(world, pendingNBT);
+		linkFluidTanks();
+		pendingBlocks = null;
+		pendingNBT = null;
+		gatherBBsOffThread();
+	}
+
+	/**
+	 * The block snapshot sent to players starting to track the entity, encoded at
+	 * most once per tick. It is dropped again on the next entity tick.
+	 */
+	public byte[] getBlockSnapshot() {
+		long time = entity == null ? -1 : entity.world.getGameTime();
+		if (blockSnapshot == null || blockSnapshotTime != time) {
+			blockSnapshot = ContraptionSnapshot.encode(blocks.values());
+			blockSnapshotTime = time;
+		}
+		return blockSnapshot;
+	}
+
 	public CompoundNBT writeNBT(boolean spawnPacket) {
 		CompoundNBT nbt = new CompoundNBT();
 		nbt.putString("Type", getType().id);
 
-		CompoundNBT blocksNBT = writeBlocksCompound();
-
 		ListNBT actorsNBT = new ListNBT();
 		for (MutablePair<BlockInfo, MovementContext> actor : getActors()) {
 			CompoundNBT compound = new CompoundNBT();
@@ -812,7 +967,12 @@ public abstract class Contraption {
 			return tag;
 		}));
 
-		nbt.put("Blocks", blocksNBT);
+		if (!spawnPacket)
+			nbt.put("Blocks", writeBlocksCompound());
+		else if (getBlockSnapshot().length > ContraptionSnapshot.INLINE_LIMIT)
+			nbt.putInt("StreamedBlocks", getBlockSnapshot().length);
+		else
+			nbt.putByteArray("BlockSnapshot", getBlockSnapshot());
 		nbt.put("Actors", actorsNBT);
 		nbt.put("Superglue", superglueNBT);
 		nbt.put("Storage", storageNBT);
@@ -868,41 +1028,42 @@ public abstract class Contraption {
 		HashMapPalette<BlockState> finalPalette = palette;
 		blockList.forEach(e -> {
 			CompoundNBT c = (CompoundNBT) e;
+			readBlock(usePalettedDeserialization ? readBlockInfo(c, finalPalette) : legacyReadBlockInfo(c), world);
+		});
+	}
 
-			BlockInfo info = usePalettedDeserialization ? readBlockInfo(c, finalPalette) : legacyReadBlockInfo(c);
-
-			this.blocks.put(info.pos, info);
+	private void readBlock(BlockInfo info, World world) {
+		this.blocks.put(info.pos, info);
 
-			if (world.isRemote) {
-				Block block = info.state.getBlock();
-				CompoundNBT tag = info.nbt;
-				MovementBehaviour movementBehaviour = AllMovementBehaviours.of(block);
-				if (tag == null)
-					return;
+		if (!world.isRemote)
+			return;
 
-				tag.putInt("x", info.pos.getX());
-				tag.putInt("y", info.pos.getY());
-				tag.putInt("z", info.pos.getZ());
+		Block block = info.state.getBlock();
+		CompoundNBT tag = info.nbt;
+		MovementBehaviour movementBehaviour = AllMovementBehaviours.of(block);
+		if (tag == null)
+			return;
 
-				TileEntity te = TileEntity.createFromTag(info.state, tag);
-				if (te == null)
-					return;
-				te.setLocation(new ContraptionTileWorld(world, te, info), te.getPos());
-				if (te instanceof KineticTileEntity)
-					((KineticTileEntity) te).setSpeed(0);
-				te.getBlockState();
+		tag.putInt("x", info.pos.getX());
+		tag.putInt("y", info.pos.getY());
+		tag.putInt("z", info.pos.getZ());
 
-				if (movementBehaviour == null || !movementBehaviour.hasSpecialInstancedRendering())
-					maybeInstancedTileEntities.add(te);
+		TileEntity te = TileEntity.createFromTag(info.state, tag);
+		if (te == null)
+			return;
+		te.setLocation(new ContraptionTileWorld(world, te, info), te.getPos());
+		if (te instanceof KineticTileEntity)
+			((KineticTileEntity) te).setSpeed(0);
+		te.getBlockState();
 
-				if (movementBehaviour != null && !movementBehaviour.renderAsNormalTileEntity())
-					return;
+		if (movementBehaviour == null || !movementBehaviour.hasSpecialInstancedRendering())
+			maybeInstancedTileEntities.add(te);
 
-				presentTileEntities.put(info.pos, te);
-				specialRenderedTileEntities.add(te);
-			}
+		if (movementBehaviour != null && !movementBehaviour.renderAsNormalTileEntity())
+			return;
 
-		});
+		presentTileEntities.put(info.pos, te);
+		specialRenderedTileEntities.add(te);
 	}
 
 	private static BlockInfo readBlockInfo(CompoundNBT blockListEntry, HashMapPalette<BlockState> palette) {
@@ -928,45 +1089,77 @@ public abstract class Contraption {
 			.forEach(MountedFluidStorage::removeStorageFromWorld);
 		glueToRemove.forEach(SuperGlueEntity::remove);
 
+		// Blocks are removed one chunk section at a time. Neighbours only need to be
+		// notified along the surface of the removed region, the inside is all air.
+		Long2ObjectMap<List<BlockInfo>> sections = new Long2ObjectLinkedOpenHashMap<>();
+		for (BlockInfo block : blocks.values()) {
+			BlockPos add = block.pos.add(anchor)
+				.add(offset);
+			sections.computeIfAbsent(SectionPos.from(add)
+				.asLong(), $ -> new ArrayList<>())
+				.add(block);
+		}
+
+		BlockPosSet removedToAir = new BlockPosSet();
 		for (boolean brittles : Iterate.trueAndFalse) {
-			for (Iterator<BlockInfo> iterator = blocks.values()
-				.iterator(); iterator.hasNext();) {
-				BlockInfo block = iterator.next();
-				if (brittles != BlockMovementTraits.isBrittle(block.state))
-					continue;
+			for (List<BlockInfo> section : sections.values()) {
+				for (BlockInfo block : section) {
+					if (brittles != BlockMovementTraits.isBrittle(block.state))
+						continue;
+
+					BlockPos add = block.pos.add(anchor)
+						.add(offset);
+					if (customBlockRemoval(world, add, block.state))
+						continue;
+					BlockState oldState = world.getBlockState(add);
+					Block blockIn = oldState.getBlock();
+					if (block.state.getBlock() != blockIn)
+						blocks.remove(block.pos);
+					world.removeTileEntity(add);
+					int flags = BlockFlags.IS_MOVING | BlockFlags.NO_NEIGHBOR_DROPS | BlockFlags.UPDATE_NEIGHBORS
+						| BlockFlags.BLOCK_UPDATE | BlockFlags.RERENDER_MAIN_THREAD;
+					if (blockIn instanceof IWaterLoggable && oldState.contains(BlockStateProperties.WATERLOGGED)
+						&& oldState.get(BlockStateProperties.WATERLOGGED)
+							.booleanValue()) {
+						world.setBlockState(add, Blocks.WATER.getDefaultState(), flags);
+						continue;
+					}
+					world.setBlockState(add, Blocks.AIR.getDefaultState(), flags);
+					removedToAir.add(add);
+				}
+			}
+		}
 
+		for (List<BlockInfo> section : sections.values()) {
+			Chunk chunk = null;
+			for (BlockInfo block : section) {
+				if (!blocks.containsKey(block.pos))
+					continue;
 				BlockPos add = block.pos.add(anchor)
 					.add(offset);
-				if (customBlockRemoval(world, add, block.state))
-					continue;
-				BlockState oldState = world.getBlockState(add);
-				Block blockIn = oldState.getBlock();
-				if (block.state.getBlock() != blockIn)
-					iterator.remove();
-				world.removeTileEntity(add);
-				int flags = BlockFlags.IS_MOVING | BlockFlags.NO_NEIGHBOR_DROPS | BlockFlags.UPDATE_NEIGHBORS
-					| BlockFlags.BLOCK_UPDATE | BlockFlags.RERENDER_MAIN_THREAD;
-				if (blockIn instanceof IWaterLoggable && oldState.contains(BlockStateProperties.WATERLOGGED)
-					&& oldState.get(BlockStateProperties.WATERLOGGED)
-						.booleanValue()) {
-					world.setBlockState(add, Blocks.WATER.getDefaultState(), flags);
-					continue;
+//				if (!shouldUpdateAfterMovement(block))
+//					continue;
+				int flags = BlockFlags.IS_MOVING | BlockFlags.DEFAULT;
+				world.notifyBlockUpdate(add, block.state, Blocks.AIR.getDefaultState(), flags);
+				if (isOnSurface(add, removedToAir)) {
+					if (chunk == null)
+						chunk = world.getChunkAt(add);
+					world.markAndNotifyBlock(add, chunk, block.state, Blocks.AIR.getDefaultState(), flags, 512);
 				}
-				world.setBlockState(add, Blocks.AIR.getDefaultState(), flags);
+				block.state.updateDiagonalNeighbors(world, add, flags & -2);
+//				world.markAndNotifyBlock(add, null, block.state, Blocks.AIR.getDefaultState(),
+//					BlockFlags.IS_MOVING | BlockFlags.DEFAULT); this method did strange logspamming with POI-related blocks
 			}
 		}
-		for (BlockInfo block : blocks.values()) {
-			BlockPos add = block.pos.add(anchor)
-				.add(offset);
-//			if (!shouldUpdateAfterMovement(block))
-//				continue;
-			int flags = BlockFlags.IS_MOVING | BlockFlags.DEFAULT;
-			world.notifyBlockUpdate(add, block.state, Blocks.AIR.getDefaultState(), flags);
-			world.markAndNotifyBlock(add, world.getChunkAt(add), block.state, Blocks.AIR.getDefaultState(), flags, 512);
-			block.state.updateDiagonalNeighbors(world, add, flags & -2);
-//			world.markAndNotifyBlock(add, null, block.state, Blocks.AIR.getDefaultState(),
-//				BlockFlags.IS_MOVING | BlockFlags.DEFAULT); this method did strange logspamming with POI-related blocks
-		}
+	}
+
+	private static boolean isOnSurface(BlockPos pos, BlockPosSet removedToAir) {
+		if (!removedToAir.contains(pos))
+			return true;
+		for (Direction direction : Iterate.directions)
+			if (!removedToAir.contains(pos.offset(direction)))
+				return true;
+		return false;
 	}
 
 	public void addBlocksToWorld(World world, StructureTransform transform) {
@@ -1191,26 +1384,28 @@ public abstract class Contraption {
 
 	private void gatherBBsOffThread() {
 		getContraptionWorld();
-		simplifiedEntityColliderProvider = CompletableFuture.supplyAsync(() -> {
-			VoxelShape combinedShape = VoxelShapes.empty();
-			for (Entry<BlockPos, BlockInfo> entry : blocks.entrySet()) {
-				BlockInfo info = entry.getValue();
-				BlockPos localPos = entry.getKey();
-				VoxelShape collisionShape = info.state.getCollisionShape(world, localPos);
-				if (collisionShape.isEmpty())
-					continue;
-				combinedShape = VoxelShapes.combine(combinedShape,
-					collisionShape.withOffset(localPos.getX(), localPos.getY(), localPos.getZ()), IBooleanFunction.OR);
-			}
-			return combinedShape.simplify()
-				.toBoundingBoxList();
-		})
+		if (simplifiedEntityColliderProvider != null)
+			simplifiedEntityColliderProvider.cancel(false);
+		simplifiedEntityColliderProvider = ContraptionCollisionShapes.gather(blocks, world)
 			.thenAccept(r -> {
 				simplifiedEntityColliders = Optional.of(r);
 				simplifiedEntityColliderProvider = null;
 			});
 	}
 
+	/**
+	 * Simplified colliders that may intersect the given local region. The grid is
+	 * rebuilt lazily whenever a new set of colliders has been gathered.
+	 */
+	public Optional<List<AxisAlignedBB>> getSimplifiedEntityColliders(AxisAlignedBB localRegion) {
+		if (!simplifiedEntityColliders.isPresent())
+			return simplifiedEntityColliders;
+		List<AxisAlignedBB> colliders = simplifiedEntityColliders.get();
+		if (simplifiedEntityColliderGrid == null || !simplifiedEntityColliderGrid.isBuiltFrom(colliders))
+			simplifiedEntityColliderGrid = new ContraptionColliderGrid(colliders);
+		return Optional.of(simplifiedEntityColliderGrid.query(localRegion));
+	}
+
 	public static float getRadius(Set<BlockPos> blocks, Direction.Axis axis) {
 		switch (axis) {
 		case X:
@@ -1239,6 +1434,27 @@ public abstract class Contraption {
 		return maxDistSq;
 	}
 
+	private static class StructureSearch {
+		private final BlockPos start;
+		private final Direction forcedDirection;
+		private final Queue<BlockPos> frontier = new UniqueLinkedList<>();
+		private final Set<BlockPos> visited = new BlockPosSet();
+		// World states as found when captured, for searches that may span several ticks
+		private final Map<BlockPos, BlockState> capturedStates = new HashMap<>();
+		private final Map<BlockPos, TileEntity> capturedTiles = new HashMap<>();
+		private int limit = 100000;
+		private boolean resumed;
+
+		private StructureSearch(BlockPos start, @Nullable Direction forcedDirection) {
+			this.start = start;
+			this.forcedDirection = forcedDirection;
+		}
+
+		private boolean startsAt(BlockPos pos, @Nullable Direction forcedDirection) {
+			return start.equals(pos) && this.forcedDirection == forcedDirection;
+		}
+	}
+
 	private static class ContraptionTileWorld extends WrappedWorld implements IFlywheelWorld {
 
 		private final TileEntity te;
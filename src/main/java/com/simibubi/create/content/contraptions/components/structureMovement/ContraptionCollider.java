@@ -116,9 +116,13 @@ public class ContraptionCollider {
 			motion = motion.subtract(contraptionMotion);
 			motion = rotationMatrix.transform(motion);
 
-			// Use simplified bbs when present 
+			// Use simplified bbs near the swept area when present
 			final Vector3d motionCopy = motion;
-			List<AxisAlignedBB> collidableBBs = contraption.simplifiedEntityColliders.orElseGet(() -> {
+			double sweepMargin =
+				Math.max(entityBounds.getXSize(), Math.max(entityBounds.getYSize(), entityBounds.getZSize())) + 2;
+			AxisAlignedBB sweptBB = localBB.expand(motion)
+				.grow(sweepMargin);
+			List<AxisAlignedBB> collidableBBs = contraption.getSimplifiedEntityColliders(sweptBB).orElseGet(() -> {
 
 				// Else find 'nearby' individual block shapes to collide with
 				List<AxisAlignedBB> bbs = new ArrayList<>();
@@ -0,0 +1,90 @@
+package com.simibubi.create.content.contraptions.components.structureMovement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Uniform grid over the simplified colliders of a contraption, in local space.
+ * Lets the collider only test boxes near the region an entity sweeps through
+ * instead of every box of the contraption.
+ */
+public class ContraptionColliderGrid {
+
+	private static final int CELL_BITS = 2;
+
+	private final List<AxisAlignedBB> colliders;
+	private final Long2ObjectMap<IntArrayList> cells;
+	private final int[] lastQuery;
+	private int queryId;
+
+	public ContraptionColliderGrid(List<AxisAlignedBB> colliders) {
+		this.colliders = colliders;
+		this.cells = new Long2ObjectOpenHashMap<>();
+		this.lastQuery = new int[colliders.size()];
+
+		for (int i = 0; i < colliders.size(); i++) {
+			AxisAlignedBB bb = colliders.get(i);
+			int minX = cell(bb.minX), minY = cell(bb.minY), minZ = cell(bb.minZ);
+			int maxX = cell(bb.maxX), maxY = cell(bb.maxY), maxZ = cell(bb.maxZ);
+			for (int x = minX; x <= maxX; x++)
+				for (int y = minY; y <= maxY; y++)
+					for (int z = minZ; z <= maxZ; z++)
+						cells.computeIfAbsent(BlockPos.pack(x, y, z), $ -> new IntArrayList())
+							.add(i);
+		}
+	}
+
+	public boolean isBuiltFrom(List<AxisAlignedBB> colliders) {
+		return this.colliders == colliders;
+	}
+
+	/**
+	 * Collect all colliders whose cells intersect the given local region, in
+	 * their original order.
+	 */
+	public List<AxisAlignedBB> query(AxisAlignedBB region) {
+		int minX = cell(region.minX), minY = cell(region.minY), minZ = cell(region.minZ);
+		int maxX = cell(region.maxX), maxY = cell(region.maxY), maxZ = cell(region.maxZ);
+
+		long cellCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+		if (cellCount > cells.size())
+			return colliders;
+
+		if (++queryId == 0)
+			++queryId;
+		IntArrayList hits = new IntArrayList();
+		for (int x = minX; x <= maxX; x++)
+			for (int y = minY; y <= maxY; y++)
+				for (int z = minZ; z <= maxZ; z++) {
+					IntArrayList cell = cells.get(BlockPos.pack(x, y, z));
+					if (cell == null)
+						continue;
+					for (int i = 0; i < cell.size(); i++) {
+						int index = cell.getInt(i);
+						if (lastQuery[index] == queryId)
+							continue;
+						lastQuery[index] = queryId;
+						hits.add(index);
+					}
+				}
+
+		IntArrays.quickSort(hits.elements(), 0, hits.size());
+		List<AxisAlignedBB> result = new ArrayList<>(hits.size());
+		for (int i = 0; i < hits.size(); i++)
+			result.add(colliders.get(hits.getInt(i)));
+		return result;
+	}
+
+	private static int cell(double coordinate) {
+		return MathHelper.floor(coordinate) >> CELL_BITS;
+	}
+
+}
@@ -0,0 +1,197 @@
+package com.simibubi.create.content.contraptions.components.structureMovement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.util.math.shapes.IBooleanFunction;
+import net.minecraft.util.math.shapes.VoxelShape;
+import net.minecraft.util.math.shapes.VoxelShapes;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.gen.feature.template.Template.BlockInfo;
+
+/**
+ * Builds the simplified entity colliders of a contraption. Block shapes are
+ * merged per 16x16x16 section first, then the section shapes are merged
+ * pairwise on a dedicated fork-join pool. Results are cached by the contents of
+ * the contraption, so re-assembling an unchanged structure skips the merge.
+ */
+public class ContraptionCollisionShapes {
+
+	private static final int CACHE_SIZE = 64;
+	private static final ForkJoinPool POOL = new ForkJoinPool(Math.max(1, Runtime.getRuntime()
+		.availableProcessors() / 2), pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("Create Contraption Colliders-" + thread.getPoolIndex());
+			thread.setDaemon(true);
+			return thread;
+		}, null, false);
+
+	private static final Map<Key, List<AxisAlignedBB>> CACHE =
+		Collections.synchronizedMap(new LinkedHashMap<Key, List<AxisAlignedBB>>(16, .75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Entry<Key, List<AxisAlignedBB>> eldest) {
+				return size() > CACHE_SIZE;
+			}
+		});
+
+	public static CompletableFuture<List<AxisAlignedBB>> gather(Map<BlockPos, BlockInfo> blocks,
+		IBlockReader world) {
+		return CompletableFuture.supplyAsync(() -> {
+			Key key = Key.of(blocks);
+			List<AxisAlignedBB> cached = CACHE.get(key);
+			if (cached != null)
+				return cached;
+
+			List<AxisAlignedBB> result = Collections.unmodifiableList(build(blocks, world));
+			CACHE.put(key, result);
+			return result;
+		}, POOL);
+	}
+
+	private static List<AxisAlignedBB> build(Map<BlockPos, BlockInfo> blocks, IBlockReader world) {
+		Long2ObjectMap<List<BlockPos>> sections = new Long2ObjectOpenHashMap<>();
+		for (BlockPos localPos : blocks.keySet())
+			sections.computeIfAbsent(SectionPos.from(localPos)
+				.asLong(), $ -> new ArrayList<>())
+				.add(localPos);
+
+		List<List<BlockPos>> chunks = new ArrayList<>(sections.values());
+		return new MergeTask(chunks, 0, chunks.size(), blocks, world).invoke()
+			.simplify()
+			.toBoundingBoxList();
+	}
+
+	private static class MergeTask extends RecursiveTask<VoxelShape> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<List<BlockPos>> sections;
+		private final int from;
+		private final int to;
+		private final Map<BlockPos, BlockInfo> blocks;
+		private final IBlockReader world;
+
+		private MergeTask(List<List<BlockPos>> sections, int from, int to, Map<BlockPos, BlockInfo> blocks,
+			IBlockReader world) {
+			this.sections = sections;
+			this.from = from;
+			this.to = to;
+			this.blocks = blocks;
+			this.world = world;
+		}
+
+		@Override
+		protected VoxelShape compute() {
+			if (to - from == 0)
+				return VoxelShapes.empty();
+			if (to - from == 1)
+				return mergeSection(sections.get(from));
+
+			int middle = (from + to) >>> 1;
+			MergeTask left = new MergeTask(sections, from, middle, blocks, world);
+			MergeTask right = new MergeTask(sections, middle, to, blocks, world);
+			left.fork();
+			VoxelShape rightShape = right.compute();
+			VoxelShape leftShape = left.join();
+			return VoxelShapes.combine(leftShape, rightShape, IBooleanFunction.OR);
+		}
+
+		private VoxelShape mergeSection(List<BlockPos> section) {
+			VoxelShape combinedShape = VoxelShapes.empty();
+			for (BlockPos localPos : section) {
+				BlockInfo info = blocks.get(localPos);
+				VoxelShape collisionShape = info.state.getCollisionShape(world, localPos);
+				if (collisionShape.isEmpty())
+					continue;
+				combinedShape = VoxelShapes.combine(combinedShape,
+					collisionShape.withOffset(localPos.getX(), localPos.getY(), localPos.getZ()), IBooleanFunction.OR);
+			}
+			return combinedShape.simplify();
+		}
+
+	}
+
+	/**
+	 * A block palette and its layout, sorted by position. Hashed by an
+	 * order-independent fingerprint, but only equal to keys of the very same blocks.
+	 * States are compared by identity, so the key stays valid if state ids are
+	 * remapped.
+	 */
+	private static class Key {
+
+		private final long sum;
+		private final long xor;
+		private final long[] positions;
+		private final BlockState[] states;
+
+		private Key(long sum, long xor, long[] positions, BlockState[] states) {
+			this.sum = sum;
+			this.xor = xor;
+			this.positions = positions;
+			this.states = states;
+		}
+
+		private static Key of(Map<BlockPos, BlockInfo> blocks) {
+			long[] positions = new long[blocks.size()];
+			int i = 0;
+			for (BlockPos pos : blocks.keySet())
+				positions[i++] = pos.toLong();
+			Arrays.sort(positions);
+
+			long sum = 0;
+			long xor = 0;
+			BlockState[] states = new BlockState[positions.length];
+			for (i = 0; i < positions.length; i++) {
+				states[i] = blocks.get(BlockPos.fromLong(positions[i])).state;
+				long hash = mix(positions[i] * 31 + Block.getStateId(states[i]));
+				sum += hash;
+				xor ^= Long.rotateLeft(hash, 17) * 0x9E3779B97F4A7C15L;
+			}
+			return new Key(sum, xor, positions, states);
+		}
+
+		private static long mix(long value) {
+			value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+			value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+			return value ^ (value >>> 33);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			if (sum != other.sum || xor != other.xor || !Arrays.equals(positions, other.positions))
+				return false;
+			for (int i = 0; i < states.length; i++)
+				if (states[i] != other.states[i])
+					return false;
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(sum ^ xor) * 31 + positions.length;
+		}
+
+	}
+
+}
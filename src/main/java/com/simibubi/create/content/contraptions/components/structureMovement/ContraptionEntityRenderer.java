@@ -27,6 +27,9 @@ public class ContraptionEntityRenderer<C extends AbstractContraptionEntity> exte
 		double p_225626_7_) {
 		if (entity.getContraption() == null)
 			return false;
+		if (!entity.getContraption()
+			.isLoaded())
+			return false;
 		if (!entity.isAlive())
 			return false;
 
@@ -0,0 +1,271 @@
+package com.simibubi.create.content.contraptions.components.structureMovement;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nullable;
+
+import com.simibubi.create.Create;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.BitArray;
+import net.minecraft.util.ObjectIntIdentityMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.gen.feature.template.Template.BlockInfo;
+import net.minecraftforge.registries.GameData;
+
+/**
+ * Binary form of a contraption's blocks sent to clients instead of the block
+ * list NBT. States are written as a palette with bit-packed indices, positions
+ * are delta coded in sorted order and identical tile entity tags are only
+ * written once. Larger snapshots are deflated as a whole.
+ */
+public class ContraptionSnapshot {
+
+	/** Snapshots larger than this are streamed after the spawn packet. */
+	public static final int INLINE_LIMIT = 1 << 15;
+	public static final int CHUNK_SIZE = 1 << 15;
+
+	private static final int DEFLATE_THRESHOLD = 1 << 10;
+	private static final byte RAW = 0;
+	private static final byte DEFLATED = 1;
+
+	public static byte[] encode(Collection<BlockInfo> blocks) {
+		List<BlockInfo> sorted = new ArrayList<>(blocks);
+		sorted.sort(Comparator.comparingLong(info -> info.pos.toLong()));
+
+		ObjectIntIdentityMap<BlockState> ids = GameData.getBlockStateIDMap();
+		IntList palette = new IntArrayList();
+		Reference2IntMap<BlockState> paletteIndices = new Reference2IntOpenHashMap<>();
+		List<CompoundNBT> tags = new ArrayList<>();
+		Object2IntMap<CompoundNBT> tagIndices = new Object2IntOpenHashMap<>();
+		int[] stateOf = new int[sorted.size()];
+		int[] tagOf = new int[sorted.size()];
+
+		for (int i = 0; i < sorted.size(); i++) {
+			BlockInfo info = sorted.get(i);
+			int index = paletteIndices.getOrDefault(info.state, -1);
+			if (index == -1) {
+				index = palette.size();
+				palette.add(ids.getId(info.state));
+				paletteIndices.put(info.state, index);
+			}
+			stateOf[i] = index;
+
+			if (info.nbt == null)
+				continue;
+			int tag = tagIndices.getOrDefault(info.nbt, 0);
+			if (tag == 0) {
+				tags.add(info.nbt);
+				tag = tags.size();
+				tagIndices.put(info.nbt, tag);
+			}
+			tagOf[i] = tag;
+		}
+
+		PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+		try {
+			buffer.writeVarInt(palette.size());
+			for (int i = 0; i < palette.size(); i++)
+				buffer.writeVarInt(palette.getInt(i));
+
+			buffer.writeVarInt(sorted.size());
+			long previous = 0;
+			for (BlockInfo info : sorted) {
+				long pos = info.pos.toLong();
+				buffer.writeVarLong(pos - previous);
+				previous = pos;
+			}
+
+			BitArray packed = new BitArray(bitsFor(palette.size()), sorted.size());
+			for (int i = 0; i < stateOf.length; i++)
+				packed.setAt(i, stateOf[i]);
+			long[] longs = packed.getBackingLongArray();
+			buffer.writeVarInt(longs.length);
+			for (long l : longs)
+				buffer.writeLong(l);
+
+			buffer.writeVarInt(tags.size());
+			for (CompoundNBT tag : tags)
+				buffer.writeCompoundTag(tag);
+			for (int tag : tagOf)
+				buffer.writeVarInt(tag);
+
+			byte[] raw = new byte[buffer.readableBytes()];
+			buffer.readBytes(raw);
+			return pack(raw);
+		} finally {
+			buffer.release();
+		}
+	}
+
+	/**
+	 * Decodes a snapshot without touching any world state, so it may be called
+	 * from a worker thread. Every returned block owns its tile entity tag.
+	 */
+	public static List<BlockInfo> decode(byte[] data) {
+		PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(unpack(data)));
+		ObjectIntIdentityMap<BlockState> ids = GameData.getBlockStateIDMap();
+
+		BlockState[] palette = new BlockState[buffer.readVarInt()];
+		for (int i = 0; i < palette.length; i++) {
+			BlockState state = ids.getByValue(buffer.readVarInt());
+			palette[i] = state == null ? Blocks.AIR.getDefaultState() : state;
+		}
+
+		int count = buffer.readVarInt();
+		long[] positions = new long[count];
+		long previous = 0;
+		for (int i = 0; i < count; i++) {
+			previous += buffer.readVarLong();
+			positions[i] = previous;
+		}
+
+		long[] longs = new long[buffer.readVarInt()];
+		for (int i = 0; i < longs.length; i++)
+			longs[i] = buffer.readLong();
+		BitArray packed = new BitArray(bitsFor(palette.length), count, longs);
+
+		CompoundNBT[] tags = new CompoundNBT[buffer.readVarInt()];
+		boolean[] handedOut = new boolean[tags.length];
+		for (int i = 0; i < tags.length; i++)
+			tags[i] = buffer.readCompoundTag();
+
+		List<BlockInfo> blocks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int tag = buffer.readVarInt() - 1;
+			CompoundNBT nbt = null;
+			if (tag >= 0) {
+				nbt = handedOut[tag] ? tags[tag].copy() : tags[tag];
+				handedOut[tag] = true;
+			}
+			blocks.add(new BlockInfo(BlockPos.fromLong(positions[i]), palette[packed.getAt(i)], nbt));
+		}
+		return blocks;
+	}
+
+	private static int bitsFor(int paletteSize) {
+		return Math.max(1, MathHelper.log2DeBruijn(paletteSize));
+	}
+
+	private static byte[] pack(byte[] raw) {
+		if (raw.length < DEFLATE_THRESHOLD)
+			return prefix(RAW, raw);
+
+		Deflater deflater = new Deflater();
+		deflater.setInput(raw);
+		deflater.finish();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+		byte[] chunk = new byte[8192];
+		while (!deflater.finished())
+			out.write(chunk, 0, deflater.deflate(chunk));
+		deflater.end();
+
+		PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+		try {
+			buffer.writeByte(DEFLATED);
+			buffer.writeVarInt(raw.length);
+			buffer.writeBytes(out.toByteArray());
+			byte[] packed = new byte[buffer.readableBytes()];
+			buffer.readBytes(packed);
+			return packed;
+		} finally {
+			buffer.release();
+		}
+	}
+
+	private static byte[] prefix(byte flag, byte[] raw) {
+		byte[] packed = new byte[raw.length + 1];
+		packed[0] = flag;
+		System.arraycopy(raw, 0, packed, 1, raw.length);
+		return packed;
+	}
+
+	private static byte[] unpack(byte[] data) {
+		PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(data));
+		byte flag = buffer.readByte();
+		if (flag == RAW) {
+			byte[] raw = new byte[buffer.readableBytes()];
+			buffer.readBytes(raw);
+			return raw;
+		}
+
+		byte[] raw = new byte[buffer.readVarInt()];
+		Inflater inflater = new Inflater();
+		inflater.setInput(data, buffer.readerIndex(), buffer.readableBytes());
+		try {
+			int length = 0;
+			while (length < raw.length && !inflater.finished()) {
+				int read = inflater.inflate(raw, length, raw.length - length);
+				if (read == 0 && inflater.needsInput())
+					break;
+				length += read;
+			}
+			if (length != raw.length)
+				throw new IllegalStateException("Truncated contraption snapshot");
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Corrupt contraption snapshot", e);
+		} finally {
+			inflater.end();
+		}
+		return raw;
+	}
+
+	/**
+	 * Collects the chunks of a streamed snapshot on the client.
+	 */
+	public static class Receiver {
+		private final byte[] data;
+		private int received;
+		@Nullable
+		private CompletableFuture<List<BlockInfo>> decoded;
+
+		public Receiver(int length) {
+			data = new byte[length];
+		}
+
+		public void accept(int offset, byte[] chunk) {
+			if (decoded != null || offset < 0 || offset + chunk.length > data.length)
+				return;
+			System.arraycopy(chunk, 0, data, offset, chunk.length);
+			received += chunk.length;
+			if (received >= data.length)
+				decoded = CompletableFuture.supplyAsync(() -> decode(data))
+					.exceptionally(e -> {
+						Create.logger.error("Failed to decode streamed contraption blocks", e);
+						return Collections.emptyList();
+					});
+		}
+
+		/**
+		 * Returns the decoded blocks once all chunks arrived and decoding finished,
+		 * null until then.
+		 */
+		@Nullable
+		public List<BlockInfo> poll() {
+			if (decoded == null || !decoded.isDone())
+				return null;
+			return decoded.join();
+		}
+	}
+
+}
@@ -10,6 +10,7 @@ import com.simibubi.create.content.contraptions.components.structureMovement.Ass
 import com.simibubi.create.content.contraptions.components.structureMovement.ControlledContraptionEntity;
 import com.simibubi.create.content.contraptions.components.structureMovement.IDisplayAssemblyExceptions;
 import com.simibubi.create.foundation.advancement.AllTriggers;
+import com.simibubi.create.foundation.config.AllConfigs;
 import com.simibubi.create.foundation.item.TooltipHelper;
 import com.simibubi.create.foundation.tileEntity.TileEntityBehaviour;
 import com.simibubi.create.foundation.tileEntity.behaviour.scrollvalue.ScrollOptionBehaviour;
@@ -38,6 +39,7 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity
 	protected AssemblyException lastException;
 
 	private float prevAngle;
+	private BearingContraption assembling;
 
 	public MechanicalBearingTileEntity(TileEntityType<? extends MechanicalBearingTileEntity> type) {
 		super(type);
@@ -145,10 +147,19 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity
 			return;
 
 		Direction direction = getBlockState().get(FACING);
-		BearingContraption contraption = new BearingContraption(isWindmill(), direction);
+		BearingContraption contraption = assembling != null && assembling.getFacing() == direction ? assembling
+			: new BearingContraption(isWindmill(), direction);
+		assembling = null;
+		contraption.setAssemblyBudget(AllConfigs.SERVER.kinetics.assemblyTimeBudget.get() * 1000000L);
 		try {
-			if (!contraption.assemble(world, pos))
+			if (!contraption.assemble(world, pos)) {
+				// Large structures are searched over multiple ticks
+				if (contraption.isAssemblyPending())
+					assembling = contraption;
+				if (contraption.isAssemblyPending() || contraption.isAssemblyOutdated())
+					assembleNextTick = true;
 				return;
+			}
 
 			lastException = null;
 		} catch (AssemblyException e) {
@@ -185,6 +196,7 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity
 			movedContraption.disassemble();
 
 		movedContraption = null;
+		assembling = null;
 		running = false;
 		updateGeneratedRotation();
 		assembleNextTick = false;
@@ -214,8 +226,10 @@ public class MechanicalBearingTileEntity extends GeneratingKineticTileEntity
 				}
 				return;
 			} else {
-				if (speed == 0 && !isWindmill())
+				if (speed == 0 && !isWindmill()) {
+					assembling = null;
 					return;
+				}
 				assemble();
 			}
 			return;
@@ -1,6 +1,7 @@
 package com.simibubi.create.content.contraptions.components.structureMovement.piston;
 
 import java.util.List;
+import java.util.Set;
 
 import com.simibubi.create.content.contraptions.base.KineticTileEntity;
 import com.simibubi.create.content.contraptions.components.structureMovement.AbstractContraptionEntity;
@@ -164,6 +165,12 @@ public abstract class LinearActuatorTileEntity extends KineticTileEntity
 		super.remove();
 	}
 
+	@Override
+	protected void collectSyncEventKeys(Set<String> keys) {
+		super.collectSyncEventKeys(keys);
+		keys.add("ForceMovement");
+	}
+
 	@Override
 	protected void write(CompoundNBT compound, boolean clientPacket) {
 		compound.putBoolean("Running", running);
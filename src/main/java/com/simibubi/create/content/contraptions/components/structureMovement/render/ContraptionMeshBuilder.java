@@ -0,0 +1,143 @@
+package com.simibubi.create.content.contraptions.components.structureMovement.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.lwjgl.opengl.GL11;
+
+import com.mojang.blaze3d.matrix.MatrixStack;
+import com.simibubi.create.Create;
+import com.simibubi.create.content.contraptions.components.structureMovement.Contraption;
+import com.simibubi.create.foundation.utility.BlockPosSet;
+import com.simibubi.create.foundation.utility.Iterate;
+import com.simibubi.create.foundation.utility.worldWrappers.PlacementSimulationWorld;
+
+import net.minecraft.block.BlockRenderType;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BlockModelRenderer;
+import net.minecraft.client.renderer.BlockRendererDispatcher;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.RenderTypeLookup;
+import net.minecraft.client.renderer.model.IBakedModel;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.util.Direction;
+import net.minecraft.util.Util;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.feature.template.Template;
+import net.minecraft.world.lighting.WorldLightManager;
+import net.minecraftforge.client.ForgeHooksClient;
+import net.minecraftforge.client.model.data.EmptyModelData;
+
+/**
+ * Bakes the block layers of a contraption on the worker pool. Baking reads a
+ * snapshot of the contraption's blocks through a world of its own, so nothing
+ * it touches is shared with the render thread. The results can be uploaded on
+ * the render thread once ready.
+ */
+public class ContraptionMeshBuilder {
+
+    /**
+     * @param world the world the contraption is rendered in, only used to set up
+     *              the bake world on the calling thread
+     */
+    public static CompletableFuture<Map<RenderType, BufferBuilder>> buildLayers(World world, Contraption c) {
+        List<Template.BlockInfo> blocks = new ArrayList<>(c.getBlocks()
+                                                            .values());
+        PlacementSimulationWorld bakeWorld = new PlacementSimulationWorld(world);
+
+        return CompletableFuture.<Map<RenderType, BufferBuilder>>supplyAsync(() -> {
+            fillBakeWorld(bakeWorld, blocks);
+            BlockPosSet enclosed = findEnclosedBlocks(bakeWorld, blocks);
+            Map<RenderType, BufferBuilder> layers = new HashMap<>();
+            for (RenderType layer : RenderType.getBlockLayers())
+                layers.put(layer, buildLayer(bakeWorld, blocks, enclosed, layer));
+            ForgeHooksClient.setRenderLayer(null);
+            return layers;
+        }, Util.getServerExecutor())
+                .exceptionally(e -> {
+                    Create.logger.error("Failed to build contraption mesh", e);
+                    Map<RenderType, BufferBuilder> layers = new HashMap<>();
+                    for (RenderType layer : RenderType.getBlockLayers())
+                        layers.put(layer, buildLayer(bakeWorld, Collections.emptyList(), new BlockPosSet(), layer));
+                    return layers;
+                });
+    }
+
+    private static void fillBakeWorld(PlacementSimulationWorld bakeWorld, List<Template.BlockInfo> blocks) {
+        for (Template.BlockInfo info : blocks)
+            bakeWorld.setBlockState(info.pos, info.state);
+
+        WorldLightManager lighter = bakeWorld.lighter;
+        bakeWorld.chunkProvider.getLightSources()
+                               .forEach(pos -> lighter.func_215573_a(pos, bakeWorld.getLightValue(pos)));
+        lighter.tick(Integer.MAX_VALUE, true, false);
+    }
+
+    /**
+     * Blocks surrounded by opaque cubes on every side cannot show any face, so they
+     * are skipped as a whole. Faces between partially covered blocks are still
+     * culled against their neighbours while baking.
+     */
+    private static BlockPosSet findEnclosedBlocks(PlacementSimulationWorld renderWorld, List<Template.BlockInfo> blocks) {
+        BlockPosSet opaque = new BlockPosSet();
+        for (Template.BlockInfo info : blocks)
+            if (info.state.isOpaqueCube(renderWorld, info.pos))
+                opaque.add(info.pos);
+
+        BlockPosSet enclosed = new BlockPosSet();
+        for (Template.BlockInfo info : blocks) {
+            boolean covered = true;
+            for (Direction direction : Iterate.directions) {
+                if (!opaque.contains(info.pos.offset(direction))) {
+                    covered = false;
+                    break;
+                }
+            }
+            if (covered)
+                enclosed.add(info.pos);
+        }
+        return enclosed;
+    }
+
+    private static BufferBuilder buildLayer(PlacementSimulationWorld renderWorld, List<Template.BlockInfo> blocks,
+                                            BlockPosSet enclosed, RenderType layer) {
+        ForgeHooksClient.setRenderLayer(layer);
+        MatrixStack ms = new MatrixStack();
+        BlockRendererDispatcher dispatcher = Minecraft.getInstance()
+                                                      .getBlockRendererDispatcher();
+        BlockModelRenderer blockRenderer = dispatcher.getBlockModelRenderer();
+        Random random = new Random();
+        BufferBuilder builder = new BufferBuilder(DefaultVertexFormats.BLOCK.getIntegerSize());
+        builder.begin(GL11.GL_QUADS, DefaultVertexFormats.BLOCK);
+
+        for (Template.BlockInfo info : blocks) {
+            BlockState state = info.state;
+
+            if (state.getRenderType() == BlockRenderType.ENTITYBLOCK_ANIMATED)
+                continue;
+            if (!RenderTypeLookup.canRenderInLayer(state, layer))
+                continue;
+            if (enclosed.contains(info.pos))
+                continue;
+
+            IBakedModel originalModel = dispatcher.getModelForState(state);
+            ms.push();
+            ms.translate(info.pos.getX(), info.pos.getY(), info.pos.getZ());
+            blockRenderer.renderModel(renderWorld, originalModel, state, info.pos, ms, builder, true, random, 42,
+                                      OverlayTexture.DEFAULT_UV, EmptyModelData.INSTANCE);
+            ms.pop();
+        }
+
+        builder.finishDrawing();
+        return builder;
+    }
+
+}
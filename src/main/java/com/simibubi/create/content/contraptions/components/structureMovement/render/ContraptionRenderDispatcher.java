@@ -1,7 +1,9 @@
 package com.simibubi.create.content.contraptions.components.structureMovement.render;
 
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.lwjgl.opengl.GL11;
@@ -27,34 +29,25 @@ import com.simibubi.create.foundation.utility.worldWrappers.PlacementSimulationW
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import net.minecraft.block.BlockRenderType;
-import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.ActiveRenderInfo;
-import net.minecraft.client.renderer.BlockModelRenderer;
-import net.minecraft.client.renderer.BlockRendererDispatcher;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.IRenderTypeBuffer;
 import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.RenderType;
-import net.minecraft.client.renderer.RenderTypeLookup;
 import net.minecraft.client.renderer.WorldRenderer;
-import net.minecraft.client.renderer.model.IBakedModel;
-import net.minecraft.client.renderer.texture.OverlayTexture;
-import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.world.IBlockDisplayReader;
 import net.minecraft.world.LightType;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.template.Template;
-import net.minecraftforge.client.ForgeHooksClient;
-import net.minecraftforge.client.model.data.EmptyModelData;
 
 public class ContraptionRenderDispatcher {
     public static final Int2ObjectMap<RenderedContraption> renderers = new Int2ObjectOpenHashMap<>();
     public static final Compartment<Pair<Contraption, Integer>> CONTRAPTION = new Compartment<>();
-    protected static PlacementSimulationWorld renderWorld;
+    private static final Map<Contraption, CompletableFuture<Map<RenderType, BufferBuilder>>> pendingStructures =
+            new WeakHashMap<>();
 
     public static void notifyLightPacket(IBlockDisplayReader world, int chunkX, int chunkZ) {
         for (RenderedContraption renderer : renderers.values()) {
@@ -147,11 +140,14 @@ public class ContraptionRenderDispatcher {
         }
 
         renderers.clear();
+        pendingStructures.clear();
     }
 
     public static void render(AbstractContraptionEntity entity, MatrixStack ms, IRenderTypeBuffer buffers,
                               MatrixStack msLocal, Contraption contraption) {
         if (Backend.canUseVBOs()) {
+            if (!getRenderer(entity.world, contraption).isStructureReady())
+                renderPlaceholder(contraption, ms, buffers);
             ContraptionRenderDispatcher.renderDynamic(entity.world, contraption, ms, msLocal, buffers);
         } else {
             ContraptionRenderDispatcher.renderDynamic(entity.world, contraption, ms, msLocal, buffers);
@@ -172,11 +168,23 @@ public class ContraptionRenderDispatcher {
         SuperByteBufferCache bufferCache = CreateClient.bufferCache;
         List<RenderType> blockLayers = RenderType.getBlockLayers();
 
+        Map<RenderType, BufferBuilder> built = null;
+
         buffer.getBuffer(RenderType.getSolid());
         for (int i = 0; i < blockLayers.size(); i++) {
             RenderType layer = blockLayers.get(i);
             Pair<Contraption, Integer> key = Pair.of(c, i);
-            SuperByteBuffer contraptionBuffer = bufferCache.get(CONTRAPTION, key, () -> buildStructureBuffer(c, layer));
+            SuperByteBuffer contraptionBuffer = bufferCache.getIfPresent(CONTRAPTION, key);
+            if (contraptionBuffer == null) {
+                if (built == null)
+                    built = pollStructure(c);
+                if (built == null) {
+                    renderPlaceholder(c, ms, buffer);
+                    return;
+                }
+                BufferBuilder builder = built.get(layer);
+                contraptionBuffer = bufferCache.get(CONTRAPTION, key, () -> new SuperByteBuffer(builder));
+            }
             if (contraptionBuffer.isEmpty())
                 continue;
             Matrix4f model = msLocal.peek()
@@ -186,50 +194,27 @@ public class ContraptionRenderDispatcher {
         }
     }
 
-    private static SuperByteBuffer buildStructureBuffer(Contraption c, RenderType layer) {
-        BufferBuilder builder = buildStructure(c, layer);
-        return new SuperByteBuffer(builder);
-    }
-
-    public static BufferBuilder buildStructure(Contraption c, RenderType layer) {
-        if (renderWorld == null || renderWorld.getWorld() != Minecraft.getInstance().world)
-            renderWorld = new PlacementSimulationWorld(Minecraft.getInstance().world);
-
-        ForgeHooksClient.setRenderLayer(layer);
-        MatrixStack ms = new MatrixStack();
-        BlockRendererDispatcher dispatcher = Minecraft.getInstance()
-            .getBlockRendererDispatcher();
-        BlockModelRenderer blockRenderer = dispatcher.getBlockModelRenderer();
-        Random random = new Random();
-        BufferBuilder builder = new BufferBuilder(DefaultVertexFormats.BLOCK.getIntegerSize());
-        builder.begin(GL11.GL_QUADS, DefaultVertexFormats.BLOCK);
-        renderWorld.setTileEntities(c.presentTileEntities.values());
-
-        for (Template.BlockInfo info : c.getBlocks()
-            .values())
-            renderWorld.setBlockState(info.pos, info.state);
-
-        for (Template.BlockInfo info : c.getBlocks()
-            .values()) {
-            BlockState state = info.state;
-
-            if (state.getRenderType() == BlockRenderType.ENTITYBLOCK_ANIMATED)
-                continue;
-            if (!RenderTypeLookup.canRenderInLayer(state, layer))
-                continue;
-
-            IBakedModel originalModel = dispatcher.getModelForState(state);
-            ms.push();
-            ms.translate(info.pos.getX(), info.pos.getY(), info.pos.getZ());
-            blockRenderer.renderModel(renderWorld, originalModel, state, info.pos, ms, builder, true, random, 42,
-                OverlayTexture.DEFAULT_UV, EmptyModelData.INSTANCE);
-            ms.pop();
+    /**
+     * Returns the baked layers of a contraption once they are ready, starting to
+     * bake them on the worker pool if needed.
+     */
+    private static Map<RenderType, BufferBuilder> pollStructure(Contraption c) {
+        CompletableFuture<Map<RenderType, BufferBuilder>> pending = pendingStructures.get(c);
+        if (pending == null) {
+            pendingStructures.put(c, ContraptionMeshBuilder.buildLayers(Minecraft.getInstance().world, c));
+            return null;
         }
 
-        builder.finishDrawing();
-        renderWorld.clear();
-        renderWorld = null;
-        return builder;
+        if (!pending.isDone())
+            return null;
+        pendingStructures.remove(c);
+        return pending.join();
+    }
+
+    private static void renderPlaceholder(Contraption c, MatrixStack ms, IRenderTypeBuffer buffer) {
+        if (c.bounds == null)
+            return;
+        WorldRenderer.drawBoundingBox(ms, buffer.getBuffer(RenderType.getLines()), c.bounds, 1, 1, 1, .5f);
     }
 
     protected static void renderActors(World world, Contraption c, MatrixStack ms, MatrixStack msLocal,
@@ -2,10 +2,8 @@ package com.simibubi.create.content.contraptions.components.structureMovement.re
 
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
-import java.util.Random;
-
-import org.lwjgl.opengl.GL11;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.simibubi.create.content.contraptions.components.structureMovement.AbstractContraptionEntity;
@@ -17,18 +15,9 @@ import com.simibubi.create.foundation.render.backend.light.GridAlignedBB;
 import com.simibubi.create.foundation.utility.AnimationTickHolder;
 import com.simibubi.create.foundation.utility.worldWrappers.PlacementSimulationWorld;
 
-import net.minecraft.block.BlockRenderType;
-import net.minecraft.block.BlockState;
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.ActiveRenderInfo;
-import net.minecraft.client.renderer.BlockModelRenderer;
-import net.minecraft.client.renderer.BlockRendererDispatcher;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.RenderType;
-import net.minecraft.client.renderer.RenderTypeLookup;
-import net.minecraft.client.renderer.model.IBakedModel;
-import net.minecraft.client.renderer.texture.OverlayTexture;
-import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
@@ -37,8 +26,6 @@ import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.template.Template;
 import net.minecraft.world.lighting.WorldLightManager;
-import net.minecraftforge.client.ForgeHooksClient;
-import net.minecraftforge.client.model.data.EmptyModelData;
 
 public class RenderedContraption {
     private final HashMap<RenderType, ContraptionModel> renderLayers = new HashMap<>();
@@ -53,14 +40,15 @@ public class RenderedContraption {
 
     private Matrix4f model;
     private AxisAlignedBB lightBox;
+    private CompletableFuture<Map<RenderType, BufferBuilder>> pendingLayers;
 
     public RenderedContraption(World world, Contraption contraption) {
         this.contraption = contraption;
         this.lighter = contraption.makeLighter();
         this.kinetics = new ContraptionKineticRenderer(this);
         this.renderWorld = setupRenderWorld(world, contraption);
+        this.pendingLayers = ContraptionMeshBuilder.buildLayers(world, contraption);
 
-        buildLayers();
         if (Backend.canUseInstancing()) {
             buildInstancedTiles();
             buildActors();
@@ -79,6 +67,14 @@ public class RenderedContraption {
         return lighter;
     }
 
+    /**
+     * Whether the block layers have been baked and uploaded. Until then only a
+     * placeholder is drawn for the structure.
+     */
+    public boolean isStructureReady() {
+        return pendingLayers == null;
+    }
+
     public void doRenderLayer(RenderType layer, ContraptionProgram shader) {
         ContraptionModel structure = renderLayers.get(layer);
         if (structure != null) {
@@ -89,6 +85,7 @@ public class RenderedContraption {
     }
 
     public void beginFrame(ActiveRenderInfo info, double camX, double camY, double camZ) {
+        uploadLayers();
         kinetics.beginFrame(info, camX, camY, camZ);
 
         AbstractContraptionEntity entity = contraption.entity;
@@ -121,6 +118,11 @@ public class RenderedContraption {
     }
 
     void invalidate() {
+        if (pendingLayers != null) {
+            pendingLayers.cancel(false);
+            pendingLayers = null;
+        }
+
         for (ContraptionModel buffer : renderLayers.values()) {
             buffer.delete();
         }
@@ -131,18 +133,20 @@ public class RenderedContraption {
         kinetics.invalidate();
     }
 
-    private void buildLayers() {
+    private void uploadLayers() {
+        if (pendingLayers == null || !pendingLayers.isDone())
+            return;
+
+        Map<RenderType, BufferBuilder> layers = pendingLayers.join();
+        pendingLayers = null;
+
         for (ContraptionModel buffer : renderLayers.values()) {
             buffer.delete();
         }
 
         renderLayers.clear();
 
-        List<RenderType> blockLayers = RenderType.getBlockLayers();
-
-        for (RenderType layer : blockLayers) {
-            renderLayers.put(layer, buildStructureModel(renderWorld, contraption, layer));
-        }
+        layers.forEach((layer, builder) -> renderLayers.put(layer, new ContraptionModel(builder)));
     }
 
     private void buildInstancedTiles() {
@@ -164,11 +168,6 @@ public class RenderedContraption {
         contraption.getActors().forEach(kinetics::createActor);
     }
 
-    private static ContraptionModel buildStructureModel(PlacementSimulationWorld renderWorld, Contraption c, RenderType layer) {
-        BufferBuilder builder = buildStructure(renderWorld, c, layer);
-        return new ContraptionModel(builder);
-    }
-
     private static PlacementSimulationWorld setupRenderWorld(World world, Contraption c) {
         PlacementSimulationWorld renderWorld = new PlacementSimulationWorld(world);
 
@@ -186,36 +185,4 @@ public class RenderedContraption {
 
         return renderWorld;
     }
-
-    private static BufferBuilder buildStructure(PlacementSimulationWorld renderWorld, Contraption c, RenderType layer) {
-
-        ForgeHooksClient.setRenderLayer(layer);
-        MatrixStack ms = new MatrixStack();
-        BlockRendererDispatcher dispatcher = Minecraft.getInstance()
-                                                      .getBlockRendererDispatcher();
-        BlockModelRenderer blockRenderer = dispatcher.getBlockModelRenderer();
-        Random random = new Random();
-        BufferBuilder builder = new BufferBuilder(DefaultVertexFormats.BLOCK.getIntegerSize());
-        builder.begin(GL11.GL_QUADS, DefaultVertexFormats.BLOCK);
-
-        for (Template.BlockInfo info : c.getBlocks()
-                                        .values()) {
-            BlockState state = info.state;
-
-            if (state.getRenderType() == BlockRenderType.ENTITYBLOCK_ANIMATED)
-                continue;
-            if (!RenderTypeLookup.canRenderInLayer(state, layer))
-                continue;
-
-            IBakedModel originalModel = dispatcher.getModelForState(state);
-            ms.push();
-            ms.translate(info.pos.getX(), info.pos.getY(), info.pos.getZ());
-            blockRenderer.renderModel(renderWorld, originalModel, state, info.pos, ms, builder, true, random, 42,
-                                      OverlayTexture.DEFAULT_UV, EmptyModelData.INSTANCE);
-            ms.pop();
-        }
-
-        builder.finishDrawing();
-        return builder;
-    }
 }
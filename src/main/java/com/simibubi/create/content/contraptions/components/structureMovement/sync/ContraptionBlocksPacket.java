@@ -0,0 +1,90 @@
+package com.simibubi.create.content.contraptions.components.structureMovement.sync;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import com.simibubi.create.content.contraptions.components.structureMovement.AbstractContraptionEntity;
+import com.simibubi.create.content.contraptions.components.structureMovement.Contraption;
+import com.simibubi.create.content.contraptions.components.structureMovement.ContraptionSnapshot;
+import com.simibubi.create.foundation.networking.AllPackets;
+import com.simibubi.create.foundation.networking.SimplePacketBase;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+/**
+ * One chunk of a block snapshot too large to be part of a contraption's spawn
+ * packet.
+ */
+public class ContraptionBlocksPacket extends SimplePacketBase {
+
+	private int entityId;
+	private int offset;
+	private byte[] data;
+
+	public ContraptionBlocksPacket(int entityId, int offset, byte[] data) {
+		this.entityId = entityId;
+		this.offset = offset;
+		this.data = data;
+	}
+
+	public ContraptionBlocksPacket(PacketBuffer buffer) {
+		entityId = buffer.readInt();
+		offset = buffer.readVarInt();
+		data = buffer.readByteArray();
+	}
+
+	/**
+	 * Streams the blocks of a contraption to a player that just received its spawn
+	 * packet, if they did not fit into it.
+	 */
+	public static void startTracking(PlayerEvent.StartTracking event) {
+		Entity entity = event.getTarget();
+		if (!(entity instanceof AbstractContraptionEntity))
+			return;
+		if (!(event.getPlayer() instanceof ServerPlayerEntity))
+			return;
+		Contraption contraption = ((AbstractContraptionEntity) entity).getContraption();
+		if (contraption == null)
+			return;
+		byte[] snapshot = contraption.getBlockSnapshot();
+		if (snapshot.length <= ContraptionSnapshot.INLINE_LIMIT)
+			return;
+
+		ServerPlayerEntity player = (ServerPlayerEntity) event.getPlayer();
+		for (int offset = 0; offset < snapshot.length; offset += ContraptionSnapshot.CHUNK_SIZE) {
+			byte[] chunk =
+				Arrays.copyOfRange(snapshot, offset, Math.min(snapshot.length, offset + ContraptionSnapshot.CHUNK_SIZE));
+			AllPackets.channel.send(PacketDistributor.PLAYER.with(() -> player),
+				new ContraptionBlocksPacket(entity.getEntityId(), offset, chunk));
+		}
+	}
+
+	@Override
+	public void write(PacketBuffer buffer) {
+		buffer.writeInt(entityId);
+		buffer.writeVarInt(offset);
+		buffer.writeByteArray(data);
+	}
+
+	@Override
+	public void handle(Supplier<Context> context) {
+		context.get()
+			.enqueueWork(() -> {
+				Entity entityByID = Minecraft.getInstance().world.getEntityByID(entityId);
+				if (!(entityByID instanceof AbstractContraptionEntity))
+					return;
+				Contraption contraption = ((AbstractContraptionEntity) entityByID).getContraption();
+				if (contraption != null)
+					contraption.receiveBlockChunk(offset, data);
+			});
+		context.get()
+			.setPacketHandled(true);
+	}
+
+}
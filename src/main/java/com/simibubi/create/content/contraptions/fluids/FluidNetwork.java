@@ -2,6 +2,7 @@ package com.simibubi.create.content.contraptions.fluids;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -42,6 +43,8 @@ public class FluidNetwork {
 	List<BlockFace> queued;
 	Set<Pair<BlockFace, PipeConnection>> frontier;
 	Set<BlockPos> visited;
+	Map<BlockPos, BlockFace> entryFaces;
+	Map<BlockPos, BlockPos> discoveredFrom;
 	FluidStack fluid;
 	List<Pair<BlockFace, LazyOptional<IFluidHandler>>> targets;
 	Map<BlockPos, WeakReference<FluidTransportBehaviour>> cache;
@@ -54,6 +57,8 @@ public class FluidNetwork {
 		this.fluid = FluidStack.EMPTY;
 		this.frontier = new HashSet<>();
 		this.visited = new HashSet<>();
+		this.entryFaces = new HashMap<>();
+		this.discoveredFrom = new HashMap<>();
 		this.targets = new ArrayList<>();
 		this.cache = new HashMap<>();
 		this.queued = new ArrayList<>();
@@ -140,7 +145,10 @@ public class FluidNetwork {
 					}
 
 					if (visited.add(adjacentLocation.getConnectedPos())) {
-						queued.add(adjacentLocation.getOpposite());
+						BlockFace entry = adjacentLocation.getOpposite();
+						queued.add(entry);
+						entryFaces.put(entry.getPos(), entry);
+						discoveredFrom.put(entry.getPos(), blockFace.getPos());
 						shouldContinue = true;
 					}
 				}
@@ -172,6 +180,13 @@ public class FluidNetwork {
 			});
 		}
 
+		// Pumps can change their pressure along a cached path without resetting this network
+		if (isPresent(start)) {
+			PipeConnection startConnection = get(start);
+			if (startConnection != null)
+				transferSpeed = (int) Math.max(1, startConnection.pressure.get(true) / 2f);
+		}
+
 		int flowSpeed = transferSpeed;
 		for (boolean simulate : Iterate.trueAndFalse) {
 			FluidAction action = simulate ? FluidAction.SIMULATE : FluidAction.EXECUTE;
@@ -252,9 +267,75 @@ public class FluidNetwork {
 //				.colored(0xfaaa33);
 //	}
 
+	/**
+	 * Forget the part of the explored pipe graph that was reached through the
+	 * given position and resume exploring from there. Networks that never passed
+	 * through the position keep their paths and targets. A changed endpoint
+	 * drops the pipe that led to it, as endpoints are never explored themselves.
+	 */
+	public void invalidate(BlockPos pos) {
+		List<BlockPos> affected = new ArrayList<>();
+		affected.add(pos);
+		for (Pair<BlockFace, LazyOptional<IFluidHandler>> pair : targets)
+			if (pair.getFirst()
+				.getConnectedPos()
+				.equals(pos))
+				affected.add(pair.getFirst()
+					.getPos());
+		for (BlockPos affectedPos : affected)
+			invalidatePipe(affectedPos);
+	}
+
+	private void invalidatePipe(BlockPos pos) {
+		if (pos.equals(start.getPos()) || pos.equals(start.getConnectedPos())) {
+			reset();
+			return;
+		}
+		if (!visited.contains(pos))
+			return;
+
+		Map<BlockPos, List<BlockPos>> children = new HashMap<>();
+		discoveredFrom.forEach((child, parent) -> children.computeIfAbsent(parent, $ -> new ArrayList<>())
+			.add(child));
+
+		Set<BlockPos> subGraph = new HashSet<>();
+		List<BlockPos> open = new ArrayList<>();
+		open.add(pos);
+		while (!open.isEmpty()) {
+			BlockPos current = open.remove(open.size() - 1);
+			if (!subGraph.add(current))
+				continue;
+			open.addAll(children.getOrDefault(current, Collections.emptyList()));
+		}
+
+		BlockFace entry = entryFaces.get(pos);
+		BlockPos parent = discoveredFrom.get(pos);
+		for (BlockPos removed : subGraph) {
+			visited.remove(removed);
+			entryFaces.remove(removed);
+			discoveredFrom.remove(removed);
+			cache.remove(removed);
+		}
+		frontier.removeIf(pair -> subGraph.contains(pair.getFirst()
+			.getPos()));
+		queued.removeIf(face -> subGraph.contains(face.getPos()));
+		targets.removeIf(pair -> subGraph.contains(pair.getFirst()
+			.getPos()));
+
+		if (entry != null) {
+			visited.add(pos);
+			entryFaces.put(pos, entry);
+			discoveredFrom.put(pos, parent);
+			queued.add(entry);
+		}
+		pauseBeforePropagation = 2;
+	}
+
 	public void reset() {
 		frontier.clear();
 		visited.clear();
+		entryFaces.clear();
+		discoveredFrom.clear();
 		targets.clear();
 		queued.clear();
 		fluid = FluidStack.EMPTY;
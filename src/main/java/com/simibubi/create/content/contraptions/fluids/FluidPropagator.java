@@ -115,7 +115,7 @@ public class FluidPropagator {
 				if (!flow.inbound)
 					continue;
 
-				connection.resetNetwork();
+				connection.invalidateNetwork(start);
 				frontier.add(target);
 			}
 		}
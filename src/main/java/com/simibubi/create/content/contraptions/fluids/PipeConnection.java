@@ -334,6 +334,10 @@ public class PipeConnection {
 		network.ifPresent(FluidNetwork::reset);
 	}
 
+	public void invalidateNetwork(BlockPos changedPos) {
+		network.ifPresent(n -> n.invalidate(changedPos));
+	}
+
 	public class Flow {
 
 		public boolean complete;
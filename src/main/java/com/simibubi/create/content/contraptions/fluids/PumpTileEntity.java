@@ -39,6 +39,7 @@ public class PumpTileEntity extends KineticTileEntity {
 
 	LerpedFloat arrowDirection;
 	Couple<MutableBoolean> sidesToUpdate;
+	Couple<PressurePath> pressurePaths;
 	boolean reversed;
 
 	public PumpTileEntity(TileEntityType<?> typeIn) {
@@ -46,6 +47,7 @@ public class PumpTileEntity extends KineticTileEntity {
 		arrowDirection = LerpedFloat.linear()
 			.startWithValue(1);
 		sidesToUpdate = Couple.create(MutableBoolean::new);
+		pressurePaths = Couple.create(null, null);
 	}
 
 	@Override
@@ -99,13 +101,23 @@ public class PumpTileEntity extends KineticTileEntity {
 		if (world.isRemote)
 			return;
 
-		BlockPos frontPos = pos.offset(getFront());
-		BlockPos backPos = pos.offset(getFront().getOpposite());
-		FluidPropagator.propagateChangedPipe(world, frontPos, world.getBlockState(frontPos));
-		FluidPropagator.propagateChangedPipe(world, backPos, world.getBlockState(backPos));
+		float currentSpeed = getSpeed();
+		boolean sameDirection = previousSpeed != 0 && currentSpeed != 0 && previousSpeed < 0 == currentSpeed < 0;
+		for (boolean front : Iterate.trueAndFalse) {
+			// Same direction: only this pump's share of the pressure changes, the network is kept
+			PressurePath path = pressurePaths.get(front);
+			if (sameDirection && path != null && sidesToUpdate.get(front)
+				.isFalse()) {
+				path.applyPressure(world, Math.abs(currentSpeed));
+				continue;
+			}
+			BlockPos sidePos = pos.offset(front ? getFront() : getFront().getOpposite());
+			FluidPropagator.propagateChangedPipe(world, sidePos, world.getBlockState(sidePos));
+		}
 	}
 
 	protected void distributePressureTo(Direction side) {
+		pressurePaths.set(isFront(side), null);
 		if (getSpeed() == 0)
 			return;
 
@@ -193,27 +205,23 @@ public class PumpTileEntity extends KineticTileEntity {
 		searchForEndpointRecursively(pipeGraph, targets, validFaces,
 			new BlockFace(start.getPos(), start.getOppositeFace()), pull);
 
-		float pressure = Math.abs(getSpeed());
+		PressurePath path = new PressurePath();
 		for (Set<BlockFace> set : validFaces.values()) {
 			int parallelBranches = set.size();
 			for (BlockFace face : set) {
 				BlockPos pipePos = face.getPos();
-				Direction pipeSide = face.getFace();
-
 				if (pipePos.equals(pos))
 					continue;
 
 				boolean inbound = pipeGraph.get(pipePos)
 					.getSecond()
-					.get(pipeSide);
-				FluidTransportBehaviour pipeBehaviour = FluidPropagator.getPipe(world, pipePos);
-				if (pipeBehaviour == null)
-					continue;
-
-				pipeBehaviour.addPressure(pipeSide, inbound, pressure / parallelBranches);
+					.get(face.getFace());
+				path.add(face, inbound, parallelBranches);
 			}
 		}
 
+		path.applyPressure(world, Math.abs(getSpeed()));
+		pressurePaths.set(isFront(side), path);
 	}
 
 	protected boolean searchForEndpointRecursively(Map<BlockPos, Pair<Integer, Map<Direction, Boolean>>> pipeGraph,
@@ -303,6 +311,7 @@ public class PumpTileEntity extends KineticTileEntity {
 	public void updatePipesOnSide(Direction side) {
 		if (!isSideAccessible(side))
 			return;
+		pressurePaths.set(isFront(side), null);
 		updatePipeNetwork(isFront(side));
 		getBehaviour(FluidTransportBehaviour.TYPE).wipePressure();
 	}
@@ -378,4 +387,36 @@ public class PumpTileEntity extends KineticTileEntity {
 	public boolean shouldRenderAsTE() {
 		return true;
 	}
+
+	/**
+	 * The pipe faces a pump pressurizes on one side, found by its last full
+	 * search. Lets the pump change its pressure without wiping the network.
+	 */
+	static class PressurePath {
+
+		List<Pair<BlockFace, Boolean>> faces = new ArrayList<>();
+		List<Integer> parallelBranches = new ArrayList<>();
+		float appliedPressure;
+
+		void add(BlockFace face, boolean inbound, int branches) {
+			faces.add(Pair.of(face, inbound));
+			parallelBranches.add(branches);
+		}
+
+		void applyPressure(IWorld world, float pressure) {
+			float change = pressure - appliedPressure;
+			appliedPressure = pressure;
+			for (int i = 0; i < faces.size(); i++) {
+				BlockFace face = faces.get(i)
+					.getFirst();
+				FluidTransportBehaviour pipeBehaviour = FluidPropagator.getPipe(world, face.getPos());
+				if (pipeBehaviour == null)
+					continue;
+				pipeBehaviour.addPressure(face.getFace(), faces.get(i)
+					.getSecond(), change / parallelBranches.get(i));
+			}
+		}
+
+	}
+
 }
@@ -1,20 +1,32 @@
 package com.simibubi.create.content.contraptions.processing;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import com.simibubi.create.content.contraptions.base.KineticTileEntity;
 import com.simibubi.create.foundation.advancement.AllTriggers;
 import com.simibubi.create.foundation.advancement.ITriggerable;
 import com.simibubi.create.foundation.tileEntity.TileEntityBehaviour;
+import com.simibubi.create.foundation.tileEntity.behaviour.filtering.FilteringBehaviour;
 import com.simibubi.create.foundation.tileEntity.behaviour.simple.DeferralBehaviour;
 import com.simibubi.create.foundation.utility.recipe.RecipeFinder;
 
+import net.minecraft.fluid.Fluid;
 import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
 
 public abstract class BasinOperatingTileEntity extends KineticTileEntity {
 
@@ -22,6 +34,10 @@ public abstract class BasinOperatingTileEntity extends KineticTileEntity {
 	public boolean basinRemoved;
 	protected IRecipe<?> currentRecipe;
 
+	private List<IRecipe<?>> lastRecipeSource;
+	private IRecipe<?> lastMatchedRecipe;
+	private int lastContentFingerprint;
+
 	public BasinOperatingTileEntity(TileEntityType<?> typeIn) {
 		super(typeIn);
 	}
@@ -116,13 +132,79 @@ public abstract class BasinOperatingTileEntity extends KineticTileEntity {
 
 	protected List<IRecipe<?>> getMatchingRecipes() {
 		List<IRecipe<?>> list = RecipeFinder.get(getRecipeCacheKey(), world, this::matchStaticFilters);
-		return list.stream()
-			.filter(this::matchBasinRecipe)
-			.sorted((r1, r2) -> r2.getIngredients()
-				.size()
-				- r1.getIngredients()
-					.size())
-			.collect(Collectors.toList());
+		List<IRecipe<?>> matching = new ArrayList<>();
+		Optional<BasinTileEntity> basin = getBasin();
+		if (!basin.isPresent())
+			return matching;
+
+		Set<Item> items = new HashSet<>();
+		Set<Fluid> fluids = new HashSet<>();
+		int fingerprint = fingerprintContents(basin.get(), items, fluids);
+
+		// Same contents as last time, the recipe that won back then most likely still does
+		if (lastMatchedRecipe != null && lastRecipeSource == list && fingerprint == lastContentFingerprint
+			&& matchBasinRecipe(lastMatchedRecipe)) {
+			matching.add(lastMatchedRecipe);
+			return matching;
+		}
+
+		for (IRecipe<?> recipe : BasinRecipeIndex.get(getRecipeCacheKey(), list)
+			.getCandidates(items, fluids))
+			if (matchBasinRecipe(recipe))
+				matching.add(recipe);
+
+		lastRecipeSource = list;
+		lastContentFingerprint = fingerprint;
+		lastMatchedRecipe = matching.isEmpty() ? null : matching.get(0);
+		return matching;
+	}
+
+	/**
+	 * Hash everything a basin recipe match depends on, collecting the present
+	 * items and fluids along the way.
+	 */
+	private int fingerprintContents(BasinTileEntity basin, Set<Item> items, Set<Fluid> fluids) {
+		int hash = BasinTileEntity.getHeatLevelOf(basin.getWorld()
+			.getBlockState(basin.getPos()
+				.down(1)))
+			.ordinal();
+
+		FilteringBehaviour filter = basin.getFilter();
+		if (filter != null)
+			hash = hash * 31 + hashStack(filter.getFilter());
+
+		IItemHandler availableItems = basin.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY)
+			.orElse(null);
+		if (availableItems != null) {
+			for (int slot = 0; slot < availableItems.getSlots(); slot++) {
+				ItemStack stack = availableItems.getStackInSlot(slot);
+				hash = hash * 31 + hashStack(stack);
+				if (!stack.isEmpty())
+					items.add(stack.getItem());
+			}
+		}
+
+		IFluidHandler availableFluids = basin.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY)
+			.orElse(null);
+		if (availableFluids != null) {
+			for (int tank = 0; tank < availableFluids.getTanks(); tank++) {
+				FluidStack stack = availableFluids.getFluidInTank(tank);
+				hash = hash * 31 + (stack.isEmpty() ? 0
+					: (stack.getFluid()
+						.hashCode() * 31 + stack.getAmount()) * 31 + Objects.hashCode(stack.getTag()));
+				if (!stack.isEmpty())
+					fluids.add(stack.getFluid());
+			}
+		}
+
+		return hash;
+	}
+
+	private static int hashStack(ItemStack stack) {
+		if (stack.isEmpty())
+			return 0;
+		return (stack.getItem()
+			.hashCode() * 31 + stack.getCount()) * 31 + Objects.hashCode(stack.getTag());
 	}
 
 	protected abstract void onBasinRemoved();
@@ -0,0 +1,166 @@
+package com.simibubi.create.content.contraptions.processing;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.simibubi.create.foundation.fluid.FluidIngredient;
+
+import net.minecraft.client.resources.ReloadListener;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.profiler.IProfiler;
+import net.minecraft.resources.IResourceManager;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Inverted index from items and fluids to the basin recipes that need them.
+ * Lets basin operators skip every recipe that needs an ingredient the basin
+ * does not contain before running the full match. One index is kept per
+ * recipe search and rebuilt when the search result changes. All indices are
+ * dropped on reload.
+ */
+public class BasinRecipeIndex {
+
+	private static final Map<Object, BasinRecipeIndex> INDICES = new HashMap<>();
+
+	private final List<IRecipe<?>> source;
+	private final List<IRecipe<?>> recipes;
+	private final List<List<Set<Item>>> itemRequirements;
+	private final List<List<Set<Fluid>>> fluidRequirements;
+	private final Map<Item, BitSet> byItem;
+	private final Map<Fluid, BitSet> byFluid;
+	private final BitSet unindexed;
+
+	public static BasinRecipeIndex get(Object cacheKey, List<IRecipe<?>> recipes) {
+		BasinRecipeIndex index = INDICES.get(cacheKey);
+		if (index == null || index.source != recipes) {
+			index = new BasinRecipeIndex(recipes);
+			INDICES.put(cacheKey, index);
+		}
+		return index;
+	}
+
+	public static final ReloadListener<Object> LISTENER = new ReloadListener<Object>() {
+
+		@Override
+		protected Object prepare(IResourceManager resourceManager, IProfiler profiler) {
+			return new Object();
+		}
+
+		@Override
+		protected void apply(Object object, IResourceManager resourceManager, IProfiler profiler) {
+			INDICES.clear();
+		}
+
+	};
+
+	private BasinRecipeIndex(List<IRecipe<?>> source) {
+		this.source = source;
+		recipes = new ArrayList<>(source);
+		recipes.sort(Comparator.comparingInt(r -> -r.getIngredients()
+			.size()));
+		itemRequirements = new ArrayList<>(recipes.size());
+		fluidRequirements = new ArrayList<>(recipes.size());
+		byItem = new HashMap<>();
+		byFluid = new HashMap<>();
+		unindexed = new BitSet();
+
+		for (int i = 0; i < recipes.size(); i++) {
+			IRecipe<?> recipe = recipes.get(i);
+			List<Set<Item>> items = new ArrayList<>();
+			List<Set<Fluid>> fluids = new ArrayList<>();
+
+			for (Ingredient ingredient : recipe.getIngredients()) {
+				// ingredients testing more than the item can't be narrowed down safely
+				if (!ingredient.isSimple() || ingredient.hasNoMatchingItems())
+					continue;
+				Set<Item> matching = new HashSet<>();
+				for (ItemStack stack : ingredient.getMatchingStacks())
+					matching.add(stack.getItem());
+				items.add(matching);
+			}
+
+			if (recipe instanceof BasinRecipe) {
+				for (FluidIngredient ingredient : ((BasinRecipe) recipe).getFluidIngredients()) {
+					Set<Fluid> matching = new HashSet<>();
+					for (FluidStack stack : ingredient.getMatchingFluidStacks())
+						matching.add(stack.getFluid());
+					if (!matching.isEmpty())
+						fluids.add(matching);
+				}
+			}
+
+			itemRequirements.add(items);
+			fluidRequirements.add(fluids);
+
+			// it is enough to file a recipe under its most specific requirement
+			Set<Item> bestItems = null;
+			for (Set<Item> requirement : items)
+				if (bestItems == null || requirement.size() < bestItems.size())
+					bestItems = requirement;
+			Set<Fluid> bestFluids = null;
+			for (Set<Fluid> requirement : fluids)
+				if (bestFluids == null || requirement.size() < bestFluids.size())
+					bestFluids = requirement;
+
+			if (bestItems != null)
+				for (Item item : bestItems)
+					byItem.computeIfAbsent(item, $ -> new BitSet())
+						.set(i);
+			else if (bestFluids != null)
+				for (Fluid fluid : bestFluids)
+					byFluid.computeIfAbsent(fluid, $ -> new BitSet())
+						.set(i);
+			else
+				unindexed.set(i);
+		}
+	}
+
+	/**
+	 * Collect all recipes whose ingredients could be satisfied by the given
+	 * contents, ordered by ingredient count (largest first).
+	 */
+	public List<IRecipe<?>> getCandidates(Set<Item> items, Set<Fluid> fluids) {
+		if (recipes.isEmpty())
+			return Collections.emptyList();
+
+		BitSet candidates = (BitSet) unindexed.clone();
+		for (Item item : items) {
+			BitSet filed = byItem.get(item);
+			if (filed != null)
+				candidates.or(filed);
+		}
+		for (Fluid fluid : fluids) {
+			BitSet filed = byFluid.get(fluid);
+			if (filed != null)
+				candidates.or(filed);
+		}
+
+		List<IRecipe<?>> result = new ArrayList<>();
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1))
+			if (isCovered(itemRequirements.get(i), items) && isCovered(fluidRequirements.get(i), fluids))
+				result.add(recipes.get(i));
+		return result;
+	}
+
+	private static <T> boolean isCovered(List<Set<T>> requirements, Set<T> present) {
+		Requirements: for (Set<T> requirement : requirements) {
+			for (T t : present)
+				if (requirement.contains(t))
+					continue Requirements;
+			return false;
+		}
+		return true;
+	}
+
+}
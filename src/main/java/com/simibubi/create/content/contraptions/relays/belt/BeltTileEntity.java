@@ -192,6 +192,17 @@ public class BeltTileEntity extends KineticTileEntity implements LightUpdateList
 		itemHandler.invalidate();
 	}
 
+	@Override
+	public void onSpeedChanged(float previousSpeed) {
+		super.onSpeedChanged(previousSpeed);
+		// Tunnels only offer outputs that suit the belt's current movement
+		if (!hasWorld())
+			return;
+		TileEntity teAbove = world.getTileEntity(pos.up());
+		if (teAbove instanceof BrassTunnelTileEntity)
+			((BrassTunnelTileEntity) teAbove).invalidateDistributionPlan();
+	}
+
 	@Override
 	public void write(CompoundNBT compound, boolean clientPacket) {
 		if (controller != null)
@@ -2,9 +2,11 @@ package com.simibubi.create.content.contraptions.relays.belt.transport;
 
 import static com.simibubi.create.content.contraptions.relays.belt.transport.BeltTunnelInteractionHandler.flapTunnel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -40,11 +42,16 @@ public class BeltInventory {
 	boolean beltMovementPositive;
 	final float SEGMENT_WINDOW = .75f;
 
+	// Per-tick cache of segments with something above them that items may interact with
+	private static final byte SEGMENT_UNKNOWN = 0, SEGMENT_CLEAR = 1, SEGMENT_OCCUPIED = 2;
+	private byte[] segmentStates;
+
 	public BeltInventory(BeltTileEntity te) {
 		this.belt = te;
-		items = new LinkedList<>();
-		toInsert = new LinkedList<>();
-		toRemove = new LinkedList<>();
+		items = new ArrayList<>();
+		toInsert = new ArrayList<>();
+		toRemove = new ArrayList<>();
+		segmentStates = new byte[0];
 	}
 
 	public void tick() {
@@ -53,7 +60,7 @@ public class BeltInventory {
 		if (!toInsert.isEmpty() || !toRemove.isEmpty()) {
 			toInsert.forEach(this::insert);
 			toInsert.clear();
-			items.removeAll(toRemove);
+			items.removeAll(new HashSet<>(toRemove));
 			toRemove.clear();
 			belt.markDirty();
 			belt.sendData();
@@ -87,6 +94,11 @@ public class BeltInventory {
 		// resolve ending only when items will reach it this tick
 		Ending ending = Ending.UNRESOLVED;
 
+		if (segmentStates.length != belt.beltLength)
+			segmentStates = new byte[Math.max(belt.beltLength, 0)];
+		else
+			Arrays.fill(segmentStates, SEGMENT_UNKNOWN);
+
 		// Loop over items
 		while (iterator.hasNext()) {
 			stackInFront = currentItem;
@@ -135,8 +147,11 @@ public class BeltInventory {
 				beltMovementPositive ? Math.min(movement, diffToEnd) : Math.max(movement, diffToEnd);
 			float nextOffset = currentItem.beltPosition + limitedMovement;
 
+			// Items only passing over empty segments advance without interaction checks
+			boolean mayInteract = currentItem.locked || passesOccupiedSegment(currentItem.beltPosition, nextOffset);
+
 			// Belt item processing
-			if (!onClient && horizontal) {
+			if (!onClient && horizontal && mayInteract) {
 				ItemStack item = currentItem.stack;
 				if (handleBeltProcessingAndCheckIfRemoved(currentItem, nextOffset)) {
 					iterator.remove();
@@ -150,15 +165,15 @@ public class BeltInventory {
 			}
 
 			// Belt Tunnels
-			if (BeltTunnelInteractionHandler.flapTunnelsAndCheckIfStuck(this, currentItem, nextOffset))
+			if (mayInteract && BeltTunnelInteractionHandler.flapTunnelsAndCheckIfStuck(this, currentItem, nextOffset))
 				continue;
 
 			// Belt Funnels
-			if (BeltFunnelInteractionHandler.checkForFunnels(this, currentItem, nextOffset))
+			if (mayInteract && BeltFunnelInteractionHandler.checkForFunnels(this, currentItem, nextOffset))
 				continue;
 
 			// Horizontal Crushing Wheels
-			if (BeltCrusherInteractionHandler.checkForCrushers(this, currentItem, nextOffset))
+			if (mayInteract && BeltCrusherInteractionHandler.checkForCrushers(this, currentItem, nextOffset))
 				continue;
 
 			// Apply Movement
@@ -210,6 +225,71 @@ public class BeltInventory {
 				continue;
 			}
 		}
+
+		restoreOrder();
+	}
+
+	private boolean passesOccupiedSegment(float from, float to) {
+		int first = (int) Math.floor(Math.min(from, to));
+		int last = (int) Math.floor(Math.max(from, to));
+		for (int segment = first; segment <= last; segment++)
+			if (isSegmentOccupied(segment))
+				return true;
+		return false;
+	}
+
+	private boolean isSegmentOccupied(int segment) {
+		if (segment < 0 || segment >= segmentStates.length)
+			return true;
+		if (segmentStates[segment] == SEGMENT_UNKNOWN) {
+			World world = belt.getWorld();
+			BlockPos pos = BeltHelper.getPositionForOffset(belt, segment);
+			boolean occupied = !world.isAirBlock(pos.up()) || getBeltProcessingAtSegment(segment) != null;
+			segmentStates[segment] = occupied ? SEGMENT_OCCUPIED : SEGMENT_CLEAR;
+		}
+		return segmentStates[segment] == SEGMENT_OCCUPIED;
+	}
+
+	/**
+	 * Items are kept sorted in the order of travel, furthest first. Movement
+	 * rarely breaks this, so a single insertion sort pass is close to linear.
+	 */
+	private void restoreOrder() {
+		for (int i = 1; i < items.size(); i++) {
+			TransportedItemStack current = items.get(i);
+			int j = i - 1;
+			while (j >= 0 && isBehind(items.get(j), current)) {
+				items.set(j + 1, items.get(j));
+				j--;
+			}
+			if (j + 1 != i)
+				items.set(j + 1, current);
+		}
+	}
+
+	private boolean isBehind(TransportedItemStack stack, TransportedItemStack other) {
+		return beltMovementPositive ? stack.beltPosition < other.beltPosition
+			: stack.beltPosition > other.beltPosition;
+	}
+
+	/**
+	 * Binary search for the first item that is at or behind the given position in
+	 * the order of travel.
+	 */
+	private int indexOfFirstBehind(float position, boolean inclusive) {
+		int low = 0;
+		int high = items.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			float current = items.get(mid).beltPosition;
+			boolean behind = beltMovementPositive ? inclusive ? current <= position : current < position
+				: inclusive ? current >= position : current > position;
+			if (behind)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return low;
 	}
 
 	protected boolean handleBeltProcessingAndCheckIfRemoved(TransportedItemStack currentItem, float nextOffset) {
@@ -352,28 +432,28 @@ public class BeltInventory {
 	}
 
 	private void insert(TransportedItemStack newStack) {
-		if (items.isEmpty())
-			items.add(newStack);
-		else {
-			int index = 0;
-			for (TransportedItemStack stack : items) {
-				if (stack.compareTo(newStack) > 0 == beltMovementPositive)
-					break;
-				index++;
-			}
-			items.add(index, newStack);
+		int low = 0;
+		int high = items.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (items.get(mid)
+				.compareTo(newStack) > 0 == beltMovementPositive)
+				high = mid;
+			else
+				low = mid + 1;
 		}
+		items.add(low, newStack);
 	}
 
 	public TransportedItemStack getStackAtOffset(int offset) {
 		float min = offset;
 		float max = offset + 1;
-		for (TransportedItemStack stack : items) {
-			if (stack.beltPosition > max)
-				continue;
-			if (stack.beltPosition > min)
-				return stack;
-		}
+		int index = indexOfFirstBehind(beltMovementPositive ? max : min, beltMovementPositive);
+		if (index >= items.size())
+			return null;
+		TransportedItemStack stack = items.get(index);
+		if (stack.beltPosition > min && stack.beltPosition <= max)
+			return stack;
 		return null;
 	}
 
@@ -416,10 +496,15 @@ public class BeltInventory {
 	public void applyToEachWithin(float position, float maxDistanceToPosition,
 		Function<TransportedItemStack, TransportedResult> processFunction) {
 		boolean dirty = false;
-		for (TransportedItemStack transported : items) {
-			ItemStack stackBefore = transported.stack.copy();
+		float front = beltMovementPositive ? position + maxDistanceToPosition : position - maxDistanceToPosition;
+		float back = beltMovementPositive ? position - maxDistanceToPosition : position + maxDistanceToPosition;
+		for (int i = indexOfFirstBehind(front, true); i < items.size(); i++) {
+			TransportedItemStack transported = items.get(i);
+			if (beltMovementPositive ? transported.beltPosition <= back : transported.beltPosition >= back)
+				break;
 			if (Math.abs(position - transported.beltPosition) >= maxDistanceToPosition)
 				continue;
+			ItemStack stackBefore = transported.stack.copy();
 			TransportedResult result = processFunction.apply(transported);
 			if (result == null|| result.didntChangeFrom(stackBefore))
 				continue;
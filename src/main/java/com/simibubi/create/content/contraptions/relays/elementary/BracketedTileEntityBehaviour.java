@@ -1,6 +1,7 @@
 package com.simibubi.create.content.contraptions.relays.elementary;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -81,6 +82,11 @@ public class BracketedTileEntityBehaviour extends TileEntityBehaviour {
 		return bracket.orElse(Blocks.AIR.getDefaultState());
 	}
 
+	@Override
+	public void collectSyncEventKeys(Set<String> keys) {
+		keys.add("Redraw");
+	}
+
 	@Override
 	public void write(CompoundNBT nbt, boolean clientPacket) {
 		bracket.ifPresent(p -> nbt.put("Bracket", NBTUtil.writeBlockState(p)));
@@ -19,6 +19,7 @@ import com.simibubi.create.foundation.config.AllConfigs;
 import com.simibubi.create.foundation.item.ItemHelper;
 import com.simibubi.create.foundation.tileEntity.behaviour.belt.TransportedItemStackHandlerBehaviour.TransportedResult;
 import com.simibubi.create.foundation.utility.ColorHelper;
+import com.simibubi.create.foundation.utility.recipe.SingleItemRecipeCache;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -37,9 +38,6 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.particles.ParticleTypes;
 import net.minecraft.particles.RedstoneParticleData;
 import net.minecraft.tags.BlockTags;
-import net.minecraft.tileentity.BlastFurnaceTileEntity;
-import net.minecraft.tileentity.FurnaceTileEntity;
-import net.minecraft.tileentity.SmokerTileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.IBlockReader;
@@ -107,15 +105,9 @@ public class InWorldProcessing {
 			return true;
 		}
 
-		if (type == Type.SMOKING) {
-			// FIXME this does not need to be a TE
-			SmokerTileEntity smoker = new SmokerTileEntity();
-			smoker.setLocation(world, BlockPos.ZERO);
-			smoker.setInventorySlotContents(0, stack);
-			Optional<SmokingRecipe> recipe = world.getRecipeManager()
-				.getRecipe(IRecipeType.SMOKING, smoker, world);
-			return recipe.isPresent();
-		}
+		if (type == Type.SMOKING)
+			return SingleItemRecipeCache.find(IRecipeType.SMOKING, stack, world)
+				.isPresent();
 
 		if (type == Type.SPLASHING)
 			return isWashable(stack, world);
@@ -124,9 +116,12 @@ public class InWorldProcessing {
 	}
 
 	public static boolean isWashable(ItemStack stack, World world) {
-		splashingInv.setInventorySlotContents(0, stack);
-		Optional<SplashingRecipe> recipe = AllRecipeTypes.SPLASHING.find(splashingInv, world);
-		return recipe.isPresent();
+		return findSplashingRecipe(stack, world).isPresent();
+	}
+
+	private static Optional<SplashingRecipe> findSplashingRecipe(ItemStack stack, World world) {
+		IRecipeType<SplashingRecipe> type = AllRecipeTypes.SPLASHING.getType();
+		return SingleItemRecipeCache.find(type, stack, world, splashingInv);
 	}
 
 	public static void applyProcessing(ItemEntity entity, Type type) {
@@ -179,39 +174,21 @@ public class InWorldProcessing {
 
 	private static List<ItemStack> process(ItemStack stack, Type type, World world) {
 		if (type == Type.SPLASHING) {
-			splashingInv.setInventorySlotContents(0, stack);
-			Optional<SplashingRecipe> recipe = AllRecipeTypes.SPLASHING.find(splashingInv, world);
+			Optional<SplashingRecipe> recipe = findSplashingRecipe(stack, world);
 			if (recipe.isPresent())
 				return applyRecipeOn(stack, recipe.get());
 			return null;
 		}
 
-		// FIXME this does not need to be a TE
-		SmokerTileEntity smoker = new SmokerTileEntity();
-		smoker.setLocation(world, BlockPos.ZERO);
-		smoker.setInventorySlotContents(0, stack);
-		Optional<SmokingRecipe> smokingRecipe = world.getRecipeManager()
-			.getRecipe(IRecipeType.SMOKING, smoker, world);
+		Optional<SmokingRecipe> smokingRecipe = SingleItemRecipeCache.find(IRecipeType.SMOKING, stack, world);
 
 		if (type == Type.BLASTING) {
-			// FIXME this does not need to be a TE
-			FurnaceTileEntity furnace = new FurnaceTileEntity();
-			furnace.setLocation(world, BlockPos.ZERO);
-			furnace.setInventorySlotContents(0, stack);
-			Optional<FurnaceRecipe> smeltingRecipe = world.getRecipeManager()
-				.getRecipe(IRecipeType.SMELTING, furnace, world);
-
 			if (!smokingRecipe.isPresent()) {
+				Optional<FurnaceRecipe> smeltingRecipe = SingleItemRecipeCache.find(IRecipeType.SMELTING, stack, world);
 				if (smeltingRecipe.isPresent())
 					return applyRecipeOn(stack, smeltingRecipe.get());
 
-				// FIXME this does not need to be a TE
-				BlastFurnaceTileEntity blastFurnace = new BlastFurnaceTileEntity();
-				blastFurnace.setLocation(world, BlockPos.ZERO);
-				blastFurnace.setInventorySlotContents(0, stack);
-				Optional<BlastingRecipe> blastingRecipe = world.getRecipeManager()
-					.getRecipe(IRecipeType.BLASTING, blastFurnace, world);
-
+				Optional<BlastingRecipe> blastingRecipe = SingleItemRecipeCache.find(IRecipeType.BLASTING, stack, world);
 				if (blastingRecipe.isPresent())
 					return applyRecipeOn(stack, blastingRecipe.get());
 			}
@@ -0,0 +1,209 @@
+package com.simibubi.create.content.logistics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.simibubi.create.foundation.config.AllConfigs;
+import com.simibubi.create.foundation.tileEntity.behaviour.linked.LinkBehaviour;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * All links sharing one frequency pair in a world. Members are bucketed into
+ * cells as large as the link range, so only the 27 cells around a link can hold
+ * anything in range. Every receiver remembers the strongest signal in its
+ * range, and is only notified when that value changes.
+ */
+public class RedstoneLinkNetwork {
+
+	private final Set<LinkBehaviour> members;
+	private final Long2ObjectMap<List<LinkBehaviour>> transmitterCells;
+	private final Long2ObjectMap<List<LinkBehaviour>> receiverCells;
+	private final Reference2IntMap<LinkBehaviour> transmitted;
+	private final Reference2IntMap<LinkBehaviour> received;
+	private final List<LinkBehaviour> invalidated;
+	private int range;
+
+	public RedstoneLinkNetwork() {
+		members = new LinkedHashSet<>();
+		transmitterCells = new Long2ObjectOpenHashMap<>();
+		receiverCells = new Long2ObjectOpenHashMap<>();
+		transmitted = new Reference2IntOpenHashMap<>();
+		received = new Reference2IntOpenHashMap<>();
+		invalidated = new ArrayList<>();
+		range = getConfiguredRange();
+	}
+
+	public boolean isEmpty() {
+		return members.isEmpty();
+	}
+
+	public void add(LinkBehaviour link) {
+		checkRange();
+		if (!members.add(link)) {
+			update(link);
+			return;
+		}
+
+		getCell(link.isListening() ? receiverCells : transmitterCells, link.getPos()).add(link);
+		if (link.isListening()) {
+			refreshReceiver(link);
+		} else {
+			transmitted.put(link, 0);
+			transmitterChanged(link, 0, link.getTransmittedStrength());
+		}
+		removeInvalidated();
+	}
+
+	public void remove(LinkBehaviour link) {
+		checkRange();
+		unlink(link);
+		removeInvalidated();
+	}
+
+	public void update(LinkBehaviour link) {
+		checkRange();
+		if (!members.contains(link))
+			return;
+		if (link.isListening())
+			refreshReceiver(link);
+		else
+			transmitterChanged(link, transmitted.getInt(link), link.getTransmittedStrength());
+		removeInvalidated();
+	}
+
+	private void unlink(LinkBehaviour link) {
+		if (!members.remove(link))
+			return;
+		Long2ObjectMap<List<LinkBehaviour>> cells = link.isListening() ? receiverCells : transmitterCells;
+		long key = getCellKey(link.getPos());
+		List<LinkBehaviour> cell = cells.get(key);
+		if (cell != null && cell.remove(link) && cell.isEmpty())
+			cells.remove(key);
+		if (link.isListening()) {
+			received.removeInt(link);
+			return;
+		}
+		int previous = transmitted.removeInt(link);
+		transmitterChanged(link, previous, 0);
+	}
+
+	private void refreshReceiver(LinkBehaviour receiver) {
+		int power = computePower(receiver);
+		received.put(receiver, power);
+
+		// fix one-to-one loading order problem
+		receiver.newPosition = true;
+		receiver.updateReceiver(power);
+	}
+
+	private void transmitterChanged(LinkBehaviour transmitter, int previous, int strength) {
+		if (members.contains(transmitter))
+			transmitted.put(transmitter, strength);
+		if (previous == strength)
+			return;
+
+		for (LinkBehaviour receiver : getNearby(receiverCells, transmitter.getPos())) {
+			int current = received.getInt(receiver);
+			int power;
+			if (strength >= current)
+				power = strength;
+			else if (previous < current)
+				continue; // someone else provides the strongest signal
+			else
+				power = computePower(receiver);
+
+			if (power == current)
+				continue;
+			received.put(receiver, power);
+			receiver.updateReceiver(power);
+		}
+	}
+
+	private int computePower(LinkBehaviour receiver) {
+		int power = 0;
+		for (LinkBehaviour transmitter : getNearby(transmitterCells, receiver.getPos())) {
+			power = Math.max(power, transmitted.getInt(transmitter));
+			if (power >= 15)
+				break;
+		}
+		return power;
+	}
+
+	private List<LinkBehaviour> getNearby(Long2ObjectMap<List<LinkBehaviour>> cells, BlockPos pos) {
+		List<LinkBehaviour> nearby = new ArrayList<>();
+		int x = Math.floorDiv(pos.getX(), range);
+		int y = Math.floorDiv(pos.getY(), range);
+		int z = Math.floorDiv(pos.getZ(), range);
+
+		for (int i = -1; i <= 1; i++)
+			for (int j = -1; j <= 1; j++)
+				for (int k = -1; k <= 1; k++) {
+					List<LinkBehaviour> cell = cells.get(BlockPos.pack(x + i, y + j, z + k));
+					if (cell == null)
+						continue;
+					for (LinkBehaviour link : cell) {
+						if (!pos.withinDistance(link.getPos(), range))
+							continue;
+						if (!isValid(link)) {
+							invalidated.add(link);
+							continue;
+						}
+						nearby.add(link);
+					}
+				}
+
+		return nearby;
+	}
+
+	private void removeInvalidated() {
+		while (!invalidated.isEmpty())
+			unlink(invalidated.remove(invalidated.size() - 1));
+	}
+
+	private List<LinkBehaviour> getCell(Long2ObjectMap<List<LinkBehaviour>> cells, BlockPos pos) {
+		return cells.computeIfAbsent(getCellKey(pos), $ -> new ArrayList<>());
+	}
+
+	private long getCellKey(BlockPos pos) {
+		return BlockPos.pack(Math.floorDiv(pos.getX(), range), Math.floorDiv(pos.getY(), range),
+			Math.floorDiv(pos.getZ(), range));
+	}
+
+	private void checkRange() {
+		int configured = getConfiguredRange();
+		if (configured == range)
+			return;
+
+		range = configured;
+		transmitterCells.clear();
+		receiverCells.clear();
+		for (LinkBehaviour link : members)
+			getCell(link.isListening() ? receiverCells : transmitterCells, link.getPos()).add(link);
+		for (LinkBehaviour receiver : new ArrayList<>(received.keySet()))
+			refreshReceiver(receiver);
+	}
+
+	private static boolean isValid(LinkBehaviour link) {
+		TileEntity te = link.tileEntity;
+		if (te.isRemoved())
+			return false;
+		World world = te.getWorld();
+		if (world == null || !world.isBlockPresent(te.getPos()))
+			return false;
+		return world.getTileEntity(te.getPos()) == te;
+	}
+
+	private static int getConfiguredRange() {
+		return AllConfigs.SERVER.logistics.linkRange.get();
+	}
+
+}
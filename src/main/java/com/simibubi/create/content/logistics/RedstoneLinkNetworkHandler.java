@@ -2,15 +2,11 @@ package com.simibubi.create.content.logistics;
 
 import java.util.HashMap;
 import java.util.IdentityHashMap;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Set;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import com.simibubi.create.Create;
-import com.simibubi.create.foundation.config.AllConfigs;
 import com.simibubi.create.foundation.tileEntity.behaviour.linked.LinkBehaviour;
 import com.simibubi.create.foundation.utility.WorldHelper;
 
@@ -18,11 +14,10 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.world.IWorld;
-import net.minecraft.world.World;
 
 public class RedstoneLinkNetworkHandler {
 
-	static final Map<IWorld, Map<Pair<Frequency, Frequency>, Set<LinkBehaviour>>> connections = new IdentityHashMap<>();
+	static final Map<IWorld, Map<Pair<Frequency, Frequency>, RedstoneLinkNetwork>> connections = new IdentityHashMap<>();
 
 	public static class Frequency {
 		public static final Frequency EMPTY = new Frequency(ItemStack.EMPTY);
@@ -75,74 +70,26 @@ public class RedstoneLinkNetworkHandler {
 		Create.logger.debug("Removed Redstone Network Space for " + WorldHelper.getDimensionID(world));
 	}
 
-	public Set<LinkBehaviour> getNetworkOf(LinkBehaviour actor) {
-		Map<Pair<Frequency, Frequency>, Set<LinkBehaviour>> networksInWorld = networksIn(actor.getWorld());
-		Pair<Frequency, Frequency> key = actor.getNetworkKey();
-		if (!networksInWorld.containsKey(key))
-			networksInWorld.put(key, new LinkedHashSet<>());
-		return networksInWorld.get(key);
+	public RedstoneLinkNetwork getNetworkOf(LinkBehaviour actor) {
+		return networksIn(actor.getWorld()).computeIfAbsent(actor.getNetworkKey(), $ -> new RedstoneLinkNetwork());
 	}
 
 	public void addToNetwork(LinkBehaviour actor) {
 		getNetworkOf(actor).add(actor);
-		updateNetworkOf(actor);
 	}
 
 	public void removeFromNetwork(LinkBehaviour actor) {
-		Set<LinkBehaviour> network = getNetworkOf(actor);
+		RedstoneLinkNetwork network = getNetworkOf(actor);
 		network.remove(actor);
-		if (network.isEmpty()) {
+		if (network.isEmpty())
 			networksIn(actor.getWorld()).remove(actor.getNetworkKey());
-			return;
-		}
-		updateNetworkOf(actor);
 	}
 
 	public void updateNetworkOf(LinkBehaviour actor) {
-		Set<LinkBehaviour> network = getNetworkOf(actor);
-		int power = 0;
-
-		for (Iterator<LinkBehaviour> iterator = network.iterator(); iterator.hasNext();) {
-			LinkBehaviour other = iterator.next();
-			if (other.tileEntity.isRemoved()) {
-				iterator.remove();
-				continue;
-			}
-			World world = actor.getWorld();
-			if (!world.isBlockPresent(other.tileEntity.getPos())) {
-				iterator.remove();
-				continue;
-			}
-			if (world.getTileEntity(other.tileEntity.getPos()) != other.tileEntity) {
-				iterator.remove();
-				continue;
-			}
-			if (!withinRange(actor, other))
-				continue;
-
-			if (power < 15)
-				power = Math.max(other.getTransmittedStrength(), power);
-		}
-
-		// fix one-to-one loading order problem
-		if (actor.isListening()) {
-			actor.newPosition = true;
-			actor.updateReceiver(power);
-		}
-
-		for (LinkBehaviour other : network) {
-			if (other != actor && other.isListening() && withinRange(actor, other))
-				other.updateReceiver(power);
-		}
-	}
-
-	public static boolean withinRange(LinkBehaviour from, LinkBehaviour to) {
-		if (from == to)
-			return true;
-		return from.getPos().withinDistance(to.getPos(), AllConfigs.SERVER.logistics.linkRange.get());
+		getNetworkOf(actor).update(actor);
 	}
 
-	public Map<Pair<Frequency, Frequency>, Set<LinkBehaviour>> networksIn(IWorld world) {
+	public Map<Pair<Frequency, Frequency>, RedstoneLinkNetwork> networksIn(IWorld world) {
 		if (!connections.containsKey(world)) {
 			Create.logger.warn(
 					"Tried to Access unprepared network space of " + WorldHelper.getDimensionID(world));
@@ -0,0 +1,59 @@
+package com.simibubi.create.content.logistics.block.belts.tunnel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * The candidate outputs of a group of connected brass tunnels, as seen from the
+ * tunnel distributing an item. Collected once and reused for every distributed
+ * stack until a tunnel of the group invalidates it. Whether an output accepts a
+ * particular stack is still tested when distributing it.
+ */
+class BrassTunnelDistributionPlan {
+
+	/**
+	 * Shared by every tunnel of a group, so that a change at one tunnel drops the
+	 * plans of all of them.
+	 */
+	static class Group {
+		boolean valid = true;
+	}
+
+	final Group group;
+	final List<BrassTunnelTileEntity> tunnels;
+	final List<Pair<BrassTunnelTileEntity, Direction>> outputs;
+	final List<Pair<BlockPos, Direction>> locations;
+
+	BrassTunnelDistributionPlan(Group group, List<BrassTunnelTileEntity> tunnels,
+		List<Pair<BrassTunnelTileEntity, Direction>> outputs) {
+		this.group = group;
+		this.tunnels = tunnels;
+		this.outputs = outputs;
+		locations = new ArrayList<>(outputs.size());
+		for (Pair<BrassTunnelTileEntity, Direction> output : outputs)
+			locations.add(Pair.of(output.getKey()
+				.getPos(), output.getValue()));
+	}
+
+	boolean isValid() {
+		return group.valid;
+	}
+
+	@Nullable
+	Pair<BrassTunnelTileEntity, Direction> getOutput(Pair<BlockPos, Direction> location) {
+		for (int i = 0; i < locations.size(); i++) {
+			Pair<BlockPos, Direction> candidate = locations.get(i);
+			if (candidate == location || candidate.equals(location))
+				return outputs.get(i);
+		}
+		return null;
+	}
+
+}
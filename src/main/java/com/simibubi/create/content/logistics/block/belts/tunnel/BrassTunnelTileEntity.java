@@ -1,13 +1,9 @@
 package com.simibubi.create.content.logistics.block.belts.tunnel;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.IdentityHashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Random;
-import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -67,7 +63,12 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 	Couple<List<Pair<BlockPos, Direction>>> distributionTargets;
 
 	private boolean syncedOutputActive;
-	private Set<BrassTunnelTileEntity> syncSet;
+
+	private BrassTunnelDistributionPlan distributionPlan;
+	private BrassTunnelDistributionPlan.Group distributionGroup;
+	private List<Pair<BrassTunnelTileEntity, Direction>> resolvedTargets;
+	private ItemStack[] distributed;
+	private boolean[] full;
 
 	protected ScrollOptionBehaviour<SelectionMode> selectionMode;
 	private LazyOptional<IItemHandler> beltCapability;
@@ -76,7 +77,9 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 	public BrassTunnelTileEntity(TileEntityType<? extends BeltTunnelTileEntity> type) {
 		super(type);
 		distributionTargets = Couple.create(ArrayList::new);
-		syncSet = new HashSet<>();
+		resolvedTargets = new ArrayList<>();
+		distributed = new ItemStack[0];
+		full = new boolean[0];
 		stackToDistribute = ItemStack.EMPTY;
 		beltCapability = LazyOptional.empty();
 		tunnelCapability = LazyOptional.of(() -> new BrassTunnelItemHandler(this));
@@ -123,33 +126,37 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 			distributionDistanceLeft = 0;
 			distributionDistanceRight = 0;
 
-			syncSet.clear();
-			List<Pair<BrassTunnelTileEntity, Direction>> validOutputs = gatherValidOutputs();
-			if (selectionMode.get() == SelectionMode.SYNCHRONIZE) {
+			BrassTunnelDistributionPlan plan = getDistributionPlan();
+			if (plan == null)
+				return;
+
+			boolean synchronize = selectionMode.get() == SelectionMode.SYNCHRONIZE;
+			if (synchronize) {
 				boolean allEmpty = true;
 				boolean allFull = true;
-				for (BrassTunnelTileEntity te : syncSet) {
+				for (BrassTunnelTileEntity te : plan.tunnels) {
 					boolean hasStack = !te.stackToDistribute.isEmpty();
 					allEmpty &= !hasStack;
 					allFull &= hasStack;
 				}
 				final boolean notifySyncedOut = !allEmpty;
 				if (allFull || allEmpty)
-					syncSet.forEach(te -> te.syncedOutputActive = notifySyncedOut);
+					plan.tunnels.forEach(te -> te.syncedOutputActive = notifySyncedOut);
 			}
 
-			if (validOutputs == null)
+			if (!syncedOutputActive && synchronize)
 				return;
 			if (stackToDistribute.isEmpty())
 				return;
 
-			for (Pair<BrassTunnelTileEntity, Direction> pair : validOutputs) {
+			for (int i = 0; i < plan.outputs.size(); i++) {
+				Pair<BrassTunnelTileEntity, Direction> pair = plan.outputs.get(i);
 				BrassTunnelTileEntity tunnel = pair.getKey();
 				Direction output = pair.getValue();
 				if (insertIntoTunnel(tunnel, output, stackToDistribute, true) == null)
 					continue;
 				distributionTargets.get(!tunnel.flapFilterEmpty(output))
-					.add(Pair.of(tunnel.pos, output));
+					.add(plan.locations.get(i));
 				int distance = tunnel.pos.getX() + tunnel.pos.getZ() - pos.getX() - pos.getZ();
 				if (distance < 0)
 					distributionDistanceLeft = Math.max(distributionDistanceLeft, -distance);
@@ -176,31 +183,48 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 		distributionTargets.forEach(list -> {
 			if (stackToDistribute.isEmpty())
 				return;
-			List<Pair<BrassTunnelTileEntity, Direction>> validTargets = new ArrayList<>();
-			for (Pair<BlockPos, Direction> pair : list) {
-				BlockPos tunnelPos = pair.getKey();
-				Direction output = pair.getValue();
-				TileEntity te = world.getTileEntity(tunnelPos);
-				if (!(te instanceof BrassTunnelTileEntity))
-					continue;
-				validTargets.add(Pair.of((BrassTunnelTileEntity) te, output));
-			}
-			distribute(validTargets);
+			resolveTargets(list, resolvedTargets);
+			distribute(resolvedTargets);
+			resolvedTargets.clear();
 			distributionProgress = -1;
 		});
 	}
 
+	private void resolveTargets(List<Pair<BlockPos, Direction>> locations,
+		List<Pair<BrassTunnelTileEntity, Direction>> validTargets) {
+		validTargets.clear();
+		BrassTunnelDistributionPlan plan = getDistributionPlan();
+		for (Pair<BlockPos, Direction> pair : locations) {
+			Pair<BrassTunnelTileEntity, Direction> output = plan == null ? null : plan.getOutput(pair);
+			if (output != null) {
+				validTargets.add(output);
+				continue;
+			}
+
+			// Targets restored from a save or collected before the group changed
+			BlockPos tunnelPos = pair.getKey();
+			Direction side = pair.getValue();
+			TileEntity te = world.getTileEntity(tunnelPos);
+			if (!(te instanceof BrassTunnelTileEntity))
+				continue;
+			validTargets.add(Pair.of((BrassTunnelTileEntity) te, side));
+		}
+	}
+
 	private static Random rand = new Random();
-	private static Map<Pair<BrassTunnelTileEntity, Direction>, ItemStack> distributed = new IdentityHashMap<>();
-	private static Set<Pair<BrassTunnelTileEntity, Direction>> full = new HashSet<>();
 
 	private void distribute(List<Pair<BrassTunnelTileEntity, Direction>> validTargets) {
 		int amountTargets = validTargets.size();
 		if (amountTargets == 0)
 			return;
 
-		distributed.clear();
-		full.clear();
+		// Per target state, indexed like validTargets
+		if (distributed.length < amountTargets) {
+			distributed = new ItemStack[amountTargets];
+			full = new boolean[amountTargets];
+		}
+		Arrays.fill(distributed, 0, amountTargets, null);
+		Arrays.fill(full, 0, amountTargets, false);
 
 		int indexStart = previousOutputIndex % amountTargets;
 		SelectionMode mode = selectionMode.get();
@@ -235,13 +259,14 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 					continue;
 
 				while (visited < amountTargets) {
-					Pair<BrassTunnelTileEntity, Direction> pair = validTargets.get(index);
+					int target = index;
+					Pair<BrassTunnelTileEntity, Direction> pair = validTargets.get(target);
 					BrassTunnelTileEntity tunnel = pair.getKey();
 					Direction side = pair.getValue();
 					index = (index + 1) % amountTargets;
 					visited++;
 
-					if (full.contains(pair)) {
+					if (full[target]) {
 						if (split && simulate)
 							remainingOutputs--;
 						continue;
@@ -251,9 +276,8 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 					ItemStack toOutput = ItemHandlerHelper.copyStackWithSize(toDistributeThisCycle, count);
 
 					// Grow by 1 to determine if target is full even after a successful transfer
-					boolean testWithIncreasedCount = distributed.containsKey(pair);
-					int increasedCount = testWithIncreasedCount ? distributed.get(pair)
-						.getCount() : 0;
+					boolean testWithIncreasedCount = distributed[target] != null;
+					int increasedCount = testWithIncreasedCount ? distributed[target].getCount() : 0;
 					if (testWithIncreasedCount)
 						toOutput.grow(increasedCount);
 
@@ -265,17 +289,17 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 						if (split && simulate)
 							remainingOutputs--;
 						if (!simulate)
-							full.add(pair);
+							full[target] = true;
 						if (robin)
 							break;
 						continue;
 					} else if (!remainder.isEmpty() && !simulate) {
-						full.add(pair);
+						full[target] = true;
 					}
 
 					if (!simulate) {
 						toOutput.shrink(remainder.getCount());
-						distributed.put(pair, toOutput);
+						distributed[target] = toOutput;
 					}
 
 					leftovers += remainder.getCount();
@@ -296,9 +320,13 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 		}
 
 		int failedTransferrals = 0;
-		for (Entry<Pair<BrassTunnelTileEntity, Direction>, ItemStack> entry : distributed.entrySet()) {
-			Pair<BrassTunnelTileEntity, Direction> pair = entry.getKey();
-			failedTransferrals += insertIntoTunnel(pair.getKey(), pair.getValue(), entry.getValue(), false).getCount();
+		for (int target = 0; target < amountTargets; target++) {
+			ItemStack toOutput = distributed[target];
+			if (toOutput == null)
+				continue;
+			Pair<BrassTunnelTileEntity, Direction> pair = validTargets.get(target);
+			failedTransferrals += insertIntoTunnel(pair.getKey(), pair.getValue(), toOutput, false).getCount();
+			distributed[target] = null;
 		}
 
 		toDistribute.grow(failedTransferrals);
@@ -435,31 +463,70 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 		return false;
 	}
 
-	private List<Pair<BrassTunnelTileEntity, Direction>> gatherValidOutputs() {
-		List<Pair<BrassTunnelTileEntity, Direction>> validOutputs = new ArrayList<>();
-		boolean synchronize = selectionMode.get() == SelectionMode.SYNCHRONIZE;
-		addValidOutputsOf(this, validOutputs);
+	/**
+	 * Returns the outputs of this tunnel's group, collecting them only if the group
+	 * changed since they were last collected. Null while part of the group is not
+	 * loaded.
+	 */
+	@Nullable
+	private BrassTunnelDistributionPlan getDistributionPlan() {
+		if (distributionPlan != null && distributionPlan.isValid())
+			return distributionPlan;
+		distributionPlan = null;
 
+		List<BrassTunnelTileEntity> tunnels = new ArrayList<>();
+		tunnels.add(this);
 		for (boolean left : Iterate.trueAndFalse) {
 			BrassTunnelTileEntity adjacent = this;
 			while (adjacent != null) {
 				if (!world.isAreaLoaded(adjacent.getPos(), 1))
 					return null;
 				adjacent = adjacent.getAdjacent(left);
-				if (adjacent == null)
-					continue;
-				addValidOutputsOf(adjacent, validOutputs);
+				if (adjacent != null)
+					tunnels.add(adjacent);
 			}
 		}
 
-		if (!syncedOutputActive && synchronize)
-			return null;
-		return validOutputs;
+		List<Pair<BrassTunnelTileEntity, Direction>> outputs = new ArrayList<>();
+		for (BrassTunnelTileEntity tunnel : tunnels)
+			addValidOutputsOf(tunnel, outputs);
+
+		// Members that already share a valid group keep it, so their plans stay intact
+		BrassTunnelDistributionPlan.Group group = distributionGroup;
+		for (BrassTunnelTileEntity tunnel : tunnels)
+			if (group == null || !group.valid || tunnel.distributionGroup != group)
+				group = null;
+		if (group == null) {
+			group = new BrassTunnelDistributionPlan.Group();
+			for (BrassTunnelTileEntity tunnel : tunnels) {
+				if (tunnel.distributionGroup != null)
+					tunnel.distributionGroup.valid = false;
+				tunnel.distributionGroup = group;
+			}
+		}
+
+		distributionPlan = new BrassTunnelDistributionPlan(group, tunnels, outputs);
+		return distributionPlan;
+	}
+
+	/**
+	 * Drops the collected outputs of every tunnel connected to this one. Called
+	 * whenever a tunnel's sides, connections or belt movement change.
+	 */
+	public void invalidateDistributionPlan() {
+		if (distributionGroup != null)
+			distributionGroup.valid = false;
+		distributionGroup = null;
+		distributionPlan = null;
 	}
 
+	/**
+	 * Collects every side a stack could leave the tunnel through. Which of them
+	 * accept a particular stack depends on filters and neighbouring inventories and
+	 * is tested by {@link #insertIntoTunnel} whenever a stack is distributed.
+	 */
 	private void addValidOutputsOf(BrassTunnelTileEntity tunnelTE,
 		List<Pair<BrassTunnelTileEntity, Direction>> validOutputs) {
-		syncSet.add(tunnelTE);
 		BeltTileEntity below = BeltHelper.getSegmentTE(world, tunnelTE.pos.down());
 		if (below == null)
 			return;
@@ -480,22 +547,8 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 					continue;
 				if (direction == movementFacing.getOpposite())
 					continue;
-				if (tunnelTE.sides.contains(direction)) {
-					BlockPos offset = tunnelTE.pos.down()
-						.offset(direction);
-					DirectBeltInputBehaviour inputBehaviour =
-						TileEntityBehaviour.get(world, offset, DirectBeltInputBehaviour.TYPE);
-					if (inputBehaviour == null) {
-						if (direction == movementFacing)
-							if (!BlockHelper.hasBlockSolidSide(world.getBlockState(offset), world, offset,
-								direction.getOpposite()))
-								validOutputs.add(Pair.of(tunnelTE, direction));
-						continue;
-					}
-					if (inputBehaviour.canInsertFromSide(direction))
-						validOutputs.add(Pair.of(tunnelTE, direction));
-					continue;
-				}
+				if (tunnelTE.sides.contains(direction))
+					validOutputs.add(Pair.of(tunnelTE, direction));
 			}
 		}
 	}
@@ -586,6 +639,7 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 
 	@Override
 	public void updateTunnelConnections() {
+		invalidateDistributionPlan();
 		super.updateTunnelConnections();
 		boolean connectivityChanged = false;
 		boolean nowConnectedLeft = determineIfConnected(true);
@@ -655,9 +709,16 @@ public class BrassTunnelTileEntity extends BeltTunnelTileEntity {
 	@Override
 	public void remove() {
 		tunnelCapability.invalidate();
+		invalidateDistributionPlan();
 		super.remove();
 	}
 
+	@Override
+	public void onChunkUnloaded() {
+		invalidateDistributionPlan();
+		super.onChunkUnloaded();
+	}
+
 	@Override
 	public <T> LazyOptional<T> getCapability(Capability<T> capability, Direction side) {
 		if (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY)
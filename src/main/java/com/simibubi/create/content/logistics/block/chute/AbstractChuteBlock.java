@@ -29,7 +29,6 @@ import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
-import net.minecraftforge.common.util.LazyOptional;
 
 public abstract class AbstractChuteBlock extends Block implements IWrenchable, ITE<ChuteTileEntity> {
 
@@ -160,7 +159,7 @@ public abstract class AbstractChuteBlock extends Block implements IWrenchable, I
 		if (pos.down().equals(neighbourPos))
 			withTileEntityDo(world, pos, ChuteTileEntity::blockBelowChanged);
 		else if (pos.up().equals(neighbourPos))
-			withTileEntityDo(world, pos, chute -> chute.capAbove = LazyOptional.empty());
+			withTileEntityDo(world, pos, ChuteTileEntity::blockAboveChanged);
 	}
 
 	public abstract BlockState updateChuteState(BlockState state, BlockState above, IBlockReader world, BlockPos pos);
@@ -0,0 +1,134 @@
+package com.simibubi.create.content.logistics.block.chute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.simibubi.create.foundation.ponder.PonderWorld;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * A straight vertical run of downward facing chutes moving items the same way.
+ * The column advances the items of all its members in one pass per tick,
+ * ordered so that an item handed to the next chute is not moved twice. Only
+ * the ends of a column look for inputs, and only its bottom searches for items
+ * to pull in. Columns are rebuilt when one of their members changes, and split
+ * where the items change direction.
+ */
+public class ChuteColumn {
+
+	// bottom to top
+	final List<ChuteTileEntity> members;
+	final List<BlockState> states;
+	final boolean upward;
+	boolean valid;
+
+	private long tickedAt;
+
+	private ChuteColumn(List<ChuteTileEntity> members) {
+		this.members = members;
+		states = new ArrayList<>(members.size());
+		for (ChuteTileEntity member : members)
+			states.add(member.getBlockState());
+		upward = isUpward(members.get(0));
+		valid = true;
+		tickedAt = -1;
+	}
+
+	static ChuteColumn build(ChuteTileEntity chute) {
+		ChuteTileEntity bottom = chute;
+		for (ChuteTileEntity below = below(bottom); below != null; below = below(below))
+			bottom = below;
+
+		List<ChuteTileEntity> members = new ArrayList<>();
+		for (ChuteTileEntity member = bottom; member != null; member = above(member))
+			members.add(member);
+
+		ChuteColumn column = new ChuteColumn(members);
+		for (ChuteTileEntity member : members) {
+			if (member.column != null)
+				member.column.valid = false;
+			member.column = column;
+		}
+		return column;
+	}
+
+	void tick(ChuteTileEntity caller) {
+		long now = currentTick(caller);
+		if (tickedAt == now)
+			return;
+		tickedAt = now;
+
+		// Block updates do not reach the client, so compare the member states directly
+		int size = members.size();
+		for (int i = 0; i < size; i++) {
+			ChuteTileEntity member = members.get(i);
+			if (member.getBlockState() == states.get(i) && isUpward(member) == upward)
+				continue;
+			valid = false;
+			caller.getColumn()
+				.tick(caller);
+			return;
+		}
+
+		// Move items along their way first, so the chutes behind them find free space.
+		// Members already moved this tick by a column they left are skipped
+		for (int i = 0; i < size && valid; i++) {
+			int index = upward ? size - 1 - i : i;
+			ChuteTileEntity member = members.get(index);
+			if (member.isRemoved() || member.columnTick == now)
+				continue;
+			member.columnTick = now;
+			member.tickInColumn(index == size - 1, index == 0);
+		}
+	}
+
+	// Ponder scenes keep ticking while the game, and with it the world's clock, is paused
+	private static long currentTick(ChuteTileEntity chute) {
+		World world = chute.getWorld();
+		if (chute.isVirtual() && world instanceof PonderWorld)
+			return ((PonderWorld) world).getTicks();
+		return world.getGameTime();
+	}
+
+	private static boolean isUpward(ChuteTileEntity chute) {
+		return chute.getItemMotion() > 0;
+	}
+
+	@Nullable
+	private static ChuteTileEntity below(ChuteTileEntity chute) {
+		ChuteTileEntity below = getChute(chute.getWorld(), chute.getPos()
+			.down());
+		return below != null && isLink(chute, below) ? below : null;
+	}
+
+	@Nullable
+	private static ChuteTileEntity above(ChuteTileEntity chute) {
+		ChuteTileEntity above = getChute(chute.getWorld(), chute.getPos()
+			.up());
+		return above != null && isLink(above, chute) ? above : null;
+	}
+
+	private static boolean isLink(ChuteTileEntity upper, ChuteTileEntity lower) {
+		return AbstractChuteBlock.getChuteFacing(upper.getBlockState()) == Direction.DOWN
+			&& AbstractChuteBlock.getChuteFacing(lower.getBlockState()) == Direction.DOWN
+			&& isUpward(upper) == isUpward(lower);
+	}
+
+	@Nullable
+	private static ChuteTileEntity getChute(@Nullable World world, BlockPos pos) {
+		if (world == null || !world.isBlockPresent(pos))
+			return null;
+		TileEntity te = world.getTileEntity(pos);
+		if (te instanceof ChuteTileEntity && !te.isRemoved())
+			return (ChuteTileEntity) te;
+		return null;
+	}
+
+}
@@ -1,6 +1,9 @@
 package com.simibubi.create.content.logistics.block.chute;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -10,6 +13,7 @@ import javax.annotation.ParametersAreNonnullByDefault;
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.Create;
 import com.simibubi.create.content.contraptions.components.fan.AirCurrent;
+import com.simibubi.create.content.contraptions.components.fan.AirCurrentTracker;
 import com.simibubi.create.content.contraptions.components.fan.EncasedFanBlock;
 import com.simibubi.create.content.contraptions.components.fan.EncasedFanTileEntity;
 import com.simibubi.create.content.contraptions.goggles.IHaveGoggleInformation;
@@ -33,6 +37,7 @@ import com.simibubi.create.foundation.utility.VecHelper;
 import mcp.MethodsReturnNonnullByDefault;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.inventory.InventoryHelper;
 import net.minecraft.item.ItemStack;
@@ -79,11 +84,20 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 	TransportedItemStackHandlerBehaviour beltBelow;
 	boolean updateAirFlow;
 	int airCurrentUpdateCooldown;
-	int entitySearchCooldown;
 
 	LazyOptional<IItemHandler> capAbove;
 	LazyOptional<IItemHandler> capBelow;
 
+	// Links to neighbouring chutes, kept until a member of the column changes
+	List<ChuteTileEntity> cachedInputs;
+	ChuteTileEntity cachedTarget;
+	BlockState cachedTargetState;
+	boolean chuteBelow;
+
+	// The vertical run of chutes this one belongs to, ticked as a whole
+	ChuteColumn column;
+	long columnTick;
+
 	public ChuteTileEntity(TileEntityType<?> tileEntityTypeIn) {
 		super(tileEntityTypeIn);
 		item = ItemStack.EMPTY;
@@ -96,6 +110,7 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 		bottomPullDistance = 0;
 		//		airCurrent = new AirCurrent(this);
 		updateAirFlow = true;
+		columnTick = -1;
 	}
 
 	@Override
@@ -134,19 +149,38 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 	@Override
 	public void tick() {
 		super.tick();
+		getColumn().tick(this);
+	}
+
+	ChuteColumn getColumn() {
+		if (column == null || !column.valid)
+			column = ChuteColumn.build(this);
+		return column;
+	}
+
+	void invalidateColumn() {
+		if (column != null)
+			column.valid = false;
+		column = null;
+	}
 
+	/**
+	 * Called by the column once per tick. Chutes inside a column take items only
+	 * from their neighbours in it, so inputs are checked at its ends.
+	 */
+	void tickInColumn(boolean top, boolean bottom) {
 		if (!world.isRemote)
 			canPickUpItems = canDirectlyInsert();
 
 		float itemMotion = getItemMotion();
 		if (itemMotion != 0 && world != null && world.isRemote)
 			spawnParticles(itemMotion);
-		tickAirStreams(itemMotion);
+		tickAirStreams(itemMotion, bottom);
 
 		if (item.isEmpty()) {
-			if (itemMotion < 0)
+			if (itemMotion < 0 && top)
 				handleInputFromAbove();
-			if (itemMotion > 0)
+			if (itemMotion > 0 && bottom)
 				handleInputFromBelow();
 			return;
 		}
@@ -195,7 +229,8 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 			else
 				maxPullDistance = MathHelper.lerp(speed / 32, 0, 1);
 
-			if (AbstractChuteBlock.isChute(world.getBlockState(pos.down())))
+			chuteBelow = AbstractChuteBlock.isChute(world.getBlockState(pos.down()));
+			if (chuteBelow)
 				maxPullDistance = 0;
 			float flowLimit = maxPullDistance;
 			if (flowLimit > 0)
@@ -222,12 +257,16 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 			return;
 		if (!canCollectItemsFromBelow())
 			return;
+		// Only the bottom of a column can pull in items, the chute below handles the rest
+		if (chuteBelow && bottomPullDistance <= 0)
+			return;
 		Vector3d center = VecHelper.getCenterOf(pos);
 		AxisAlignedBB searchArea =
 			new AxisAlignedBB(center.add(0, -bottomPullDistance - 0.5, 0), center.add(0, -0.5, 0)).grow(.45f);
-		for (ItemEntity itemEntity : world.getEntitiesWithinAABB(ItemEntity.class, searchArea)) {
-			if (!itemEntity.isAlive())
+		for (Entity entity : AirCurrentTracker.getEntitiesWithin(world, searchArea)) {
+			if (!(entity instanceof ItemEntity) || !entity.isAlive())
 				continue;
+			ItemEntity itemEntity = (ItemEntity) entity;
 			ItemStack entityItem = itemEntity.getItem();
 			if (!canAcceptItem(entityItem))
 				continue;
@@ -253,8 +292,9 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 		}
 	}
 
-	private void tickAirStreams(float itemSpeed) {
-		if (!world.isRemote && airCurrentUpdateCooldown-- <= 0) {
+	private void tickAirStreams(float itemSpeed, boolean bottom) {
+		// Only the bottom of a column reaches past it, the others are updated when the column changes
+		if (!world.isRemote && bottom && airCurrentUpdateCooldown-- <= 0) {
 			airCurrentUpdateCooldown = AllConfigs.SERVER.kinetics.fanBlockCheckRate.get();
 			updateAirFlow = true;
 		}
@@ -263,10 +303,8 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 			updateAirFlow(itemSpeed);
 		}
 
-		if (entitySearchCooldown-- <= 0 && item.isEmpty()) {
-			entitySearchCooldown = 5;
+		if (bottom && AirCurrentTracker.isEntitySearchTick(world) && item.isEmpty())
 			findEntities(itemSpeed);
-		}
 
 		extractFromBelt(itemSpeed);
 		//		if (getSpeed() != 0)
@@ -276,6 +314,14 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 	public void blockBelowChanged() {
 		updateAirFlow = true;
 		capBelow = LazyOptional.empty();
+		cachedTarget = null;
+		invalidateColumn();
+	}
+
+	public void blockAboveChanged() {
+		capAbove = LazyOptional.empty();
+		cachedInputs = null;
+		invalidateColumn();
 	}
 
 	private void spawnParticles(float itemMotion) {
@@ -500,10 +546,17 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 	@Override
 	public void remove() {
 		super.remove();
+		invalidateColumn();
 		if (lazyHandler != null)
 			lazyHandler.invalidate();
 	}
 
+	@Override
+	public void onChunkUnloaded() {
+		invalidateColumn();
+		super.onChunkUnloaded();
+	}
+
 	@Override
 	public void write(CompoundNBT compound, boolean clientPacket) {
 		compound.put("Item", item.serializeNBT());
@@ -553,6 +606,8 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 			InventoryHelper.spawnItemStack(world, pos.getX(), pos.getY(), pos.getZ(), item);
 		remove();
 		if (targetChute != null) {
+			targetChute.cachedInputs = null;
+			targetChute.invalidateColumn();
 			targetChute.updatePull();
 			targetChute.propagatePush();
 		}
@@ -561,39 +616,64 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 
 	public void onAdded() {
 		updateContainingBlockInfo();
+		cachedInputs = null;
+		cachedTarget = null;
+		invalidateColumn();
 		updatePull();
 		ChuteTileEntity targetChute = getTargetChute(getBlockState());
-		if (targetChute != null)
+		if (targetChute != null) {
+			targetChute.cachedInputs = null;
+			targetChute.invalidateColumn();
 			targetChute.propagatePush();
-		else
+		} else
 			updatePush(1);
 	}
 
 	public void updatePull() {
+		ChuteTileEntity chute = this;
+		while (chute != null && chute.applyPull())
+			chute = chute.getTargetChute(chute.getBlockState());
+	}
+
+	public void updatePush(int branchCount) {
+		if (applyPush(branchCount))
+			propagatePush();
+	}
+
+	/**
+	 * Push flows upward through the column: walk all input chutes breadth-first
+	 * and stop at branches whose push did not change.
+	 */
+	public void propagatePush() {
+		Deque<ChuteTileEntity> frontier = new ArrayDeque<>();
+		frontier.add(this);
+		while (!frontier.isEmpty()) {
+			List<ChuteTileEntity> inputs = frontier.poll()
+				.getInputChutes();
+			for (ChuteTileEntity input : inputs)
+				if (input.applyPush(inputs.size()))
+					frontier.add(input);
+		}
+	}
+
+	private boolean applyPull() {
 		float totalPull = calculatePull();
 		if (pull == totalPull)
-			return;
+			return false;
 		pull = totalPull;
 		updateAirFlow = true;
 		sendData();
-		ChuteTileEntity targetChute = getTargetChute(getBlockState());
-		if (targetChute != null)
-			targetChute.updatePull();
+		return true;
 	}
 
-	public void updatePush(int branchCount) {
+	private boolean applyPush(int branchCount) {
 		float totalPush = calculatePush(branchCount);
 		if (push == totalPush)
-			return;
+			return false;
 		updateAirFlow = true;
 		push = totalPush;
 		sendData();
-		propagatePush();
-	}
-
-	public void propagatePush() {
-		List<ChuteTileEntity> inputs = getInputChutes();
-		inputs.forEach(c -> c.updatePush(inputs.size()));
+		return true;
 	}
 
 	protected float calculatePull() {
@@ -608,12 +688,8 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 		}
 
 		float totalPull = 0;
-		for (Direction d : Iterate.directions) {
-			ChuteTileEntity inputChute = getInputChute(d);
-			if (inputChute == null)
-				continue;
+		for (ChuteTileEntity inputChute : getInputChutes())
 			totalPull += inputChute.pull;
-		}
 		return totalPull;
 	}
 
@@ -639,6 +715,15 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 	private ChuteTileEntity getTargetChute(BlockState state) {
 		if (world == null)
 			return null;
+		if (cachedTarget != null && cachedTargetState == state && !cachedTarget.isRemoved())
+			return cachedTarget;
+		cachedTarget = findTargetChute(state);
+		cachedTargetState = state;
+		return cachedTarget;
+	}
+
+	@Nullable
+	private ChuteTileEntity findTargetChute(BlockState state) {
 		Direction targetDirection = AbstractChuteBlock.getChuteFacing(state);
 		if (targetDirection == null)
 			return null;
@@ -656,14 +741,23 @@ public class ChuteTileEntity extends SmartTileEntity implements IHaveGoggleInfor
 	}
 
 	private List<ChuteTileEntity> getInputChutes() {
-		List<ChuteTileEntity> inputs = new LinkedList<>();
+		if (cachedInputs != null) {
+			boolean valid = true;
+			for (ChuteTileEntity inputChute : cachedInputs)
+				valid &= !inputChute.isRemoved();
+			if (valid)
+				return cachedInputs;
+		}
+
+		List<ChuteTileEntity> inputs = new ArrayList<>(1);
 		for (Direction d : Iterate.directions) {
 			ChuteTileEntity inputChute = getInputChute(d);
 			if (inputChute == null)
 				continue;
 			inputs.add(inputChute);
 		}
-		return inputs;
+		cachedInputs = Collections.unmodifiableList(inputs);
+		return cachedInputs;
 	}
 
 	@Nullable
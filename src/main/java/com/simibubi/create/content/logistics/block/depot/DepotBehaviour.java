@@ -74,6 +74,12 @@ public class DepotBehaviour extends TileEntityBehaviour {
 	public void tick() {
 		super.tick();
 
+		if (heldItem == null && incoming.isEmpty()) {
+			// Woken up again by anything placing an item
+			sleep();
+			return;
+		}
+
 		World world = tileEntity.getWorld();
 
 		for (Iterator<TransportedItemStack> iterator = incoming.iterator(); iterator.hasNext();) {
@@ -205,6 +211,7 @@ public class DepotBehaviour extends TileEntityBehaviour {
 			ListNBT list = compound.getList("Incoming", NBT.TAG_COMPOUND);
 			incoming = NBTHelper.readCompoundList(list, TransportedItemStack::read);
 		}
+		wake();
 	}
 
 	public void addSubBehaviours(List<TileEntityBehaviour> behaviours) {
@@ -243,6 +250,8 @@ public class DepotBehaviour extends TileEntityBehaviour {
 	public ItemStack insert(TransportedItemStack heldItem, boolean simulate) {
 		if (!canAcceptItems.get())
 			return heldItem.stack;
+		if (!simulate)
+			wake();
 
 		if (canMergeItems()) {
 			int remainingSpace = getRemainingSpace();
@@ -281,6 +290,7 @@ public class DepotBehaviour extends TileEntityBehaviour {
 
 	public void setHeldItem(TransportedItemStack heldItem) {
 		this.heldItem = heldItem;
+		wake();
 	}
 
 	public void removeHeldItem() {
@@ -291,6 +301,7 @@ public class DepotBehaviour extends TileEntityBehaviour {
 		this.heldItem = heldItem;
 		this.heldItem.beltPosition = 0.5f;
 		this.heldItem.prevBeltPosition = 0.5f;
+		wake();
 	}
 
 	public <T> LazyOptional<T> getItemCapability(Capability<T> cap, Direction side) {
@@ -0,0 +1,289 @@
+package com.simibubi.create.content.logistics.item.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import com.simibubi.create.AllItems;
+import com.simibubi.create.content.contraptions.processing.EmptyingByBasin;
+import com.simibubi.create.content.logistics.item.filter.AttributeFilterContainer.WhitelistMode;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.ItemHandlerHelper;
+import net.minecraftforge.items.ItemStackHandler;
+
+/**
+ * Immutable, pre-decoded form of a filter stack. List filters keep the items
+ * they match regardless of NBT in a set, attribute filters keep their decoded
+ * attribute chain. Compiled filter items are cached by their tag, so testing a
+ * stack never has to read the filter's NBT again.
+ */
+public abstract class CompiledFilter {
+
+	public static final CompiledFilter EMPTY = new CompiledFilter() {
+
+		@Override
+		boolean test(World world, ItemStack stack, boolean matchNBT) {
+			return true;
+		}
+
+		@Override
+		boolean test(World world, FluidStack stack, boolean matchNBT) {
+			return true;
+		}
+
+	};
+
+	private static final CompiledFilter NONE = new CompiledFilter() {
+
+		@Override
+		boolean test(World world, ItemStack stack, boolean matchNBT) {
+			return false;
+		}
+
+		@Override
+		boolean test(World world, FluidStack stack, boolean matchNBT) {
+			return false;
+		}
+
+	};
+
+	private static final int CACHE_SIZE = 256;
+	private static final Map<Key, CompiledFilter> CACHE =
+		Collections.synchronizedMap(new LinkedHashMap<Key, CompiledFilter>(16, .75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Entry<Key, CompiledFilter> eldest) {
+				return size() > CACHE_SIZE;
+			}
+		});
+
+	public static CompiledFilter of(ItemStack filter) {
+		if (filter.isEmpty())
+			return EMPTY;
+		if (!(filter.getItem() instanceof FilterItem))
+			return new SingleItem(ItemHandlerHelper.copyStackWithSize(filter, 1));
+
+		Key key = new Key(filter.getItem(), filter.getTag());
+		CompiledFilter compiled = CACHE.get(key);
+		if (compiled != null)
+			return compiled;
+
+		compiled = compile(filter);
+		CACHE.put(key.copy(), compiled);
+		return compiled;
+	}
+
+	private static CompiledFilter compile(ItemStack filter) {
+		if (AllItems.FILTER.get() == filter.getItem())
+			return new ItemList(filter);
+		if (AllItems.ATTRIBUTE_FILTER.get() == filter.getItem())
+			return new AttributeList(filter);
+		return NONE;
+	}
+
+	public boolean test(World world, ItemStack stack) {
+		return test(world, stack, false);
+	}
+
+	public boolean test(World world, FluidStack stack) {
+		if (this != EMPTY && stack.isEmpty())
+			return false;
+		return test(world, stack, true);
+	}
+
+	abstract boolean test(World world, ItemStack stack, boolean matchNBT);
+
+	abstract boolean test(World world, FluidStack stack, boolean matchNBT);
+
+	private static class SingleItem extends CompiledFilter {
+
+		private final ItemStack filter;
+
+		private SingleItem(ItemStack filter) {
+			this.filter = filter;
+		}
+
+		@Override
+		boolean test(World world, ItemStack stack, boolean matchNBT) {
+			return matchNBT ? ItemHandlerHelper.canItemStacksStack(filter, stack) : ItemStack.areItemsEqual(filter, stack);
+		}
+
+		@Override
+		boolean test(World world, FluidStack stack, boolean matchNBT) {
+			if (!EmptyingByBasin.canItemBeEmptied(world, filter))
+				return false;
+			FluidStack fluidInFilter = EmptyingByBasin.emptyItem(world, filter, true)
+				.getFirst();
+			if (fluidInFilter == null)
+				return false;
+			if (!matchNBT)
+				return fluidInFilter.getFluid()
+					.isEquivalentTo(stack.getFluid());
+			return fluidInFilter.isFluidEqual(stack);
+		}
+
+	}
+
+	private static class ItemList extends CompiledFilter {
+
+		private final boolean respectNBT;
+		private final boolean blacklist;
+		private final Set<Item> items;
+		private final List<CompiledFilter> nested;
+		private final List<CompiledFilter> entries;
+
+		private ItemList(ItemStack filter) {
+			ItemStackHandler filterItems = FilterItem.getFilterItems(filter);
+			CompoundNBT tag = filter.getOrCreateTag();
+			respectNBT = tag.getBoolean("RespectNBT");
+			blacklist = tag.getBoolean("Blacklist");
+			items = new ReferenceOpenHashSet<>();
+			nested = new ArrayList<>();
+			entries = new ArrayList<>();
+
+			for (int slot = 0; slot < filterItems.getSlots(); slot++) {
+				ItemStack stackInSlot = filterItems.getStackInSlot(slot);
+				if (stackInSlot.isEmpty())
+					continue;
+				CompiledFilter entry = of(stackInSlot);
+				entries.add(entry);
+				if (stackInSlot.getItem() instanceof FilterItem)
+					nested.add(entry);
+				else
+					items.add(stackInSlot.getItem());
+			}
+		}
+
+		@Override
+		boolean test(World world, ItemStack stack, boolean matchNBT) {
+			if (respectNBT)
+				return anyMatch(world, stack, entries) != blacklist;
+			if (items.contains(stack.getItem()) && !stack.isEmpty())
+				return !blacklist;
+			return anyMatch(world, stack, nested) != blacklist;
+		}
+
+		private boolean anyMatch(World world, ItemStack stack, List<CompiledFilter> filters) {
+			for (CompiledFilter filter : filters)
+				if (filter.test(world, stack, respectNBT))
+					return true;
+			return false;
+		}
+
+		@Override
+		boolean test(World world, FluidStack stack, boolean matchNBT) {
+			for (CompiledFilter filter : entries)
+				if (filter.test(world, stack, respectNBT))
+					return !blacklist;
+			return blacklist;
+		}
+
+	}
+
+	private static class AttributeList extends CompiledFilter {
+
+		private final WhitelistMode whitelistMode;
+		private final List<ItemAttribute> attributes;
+		private final boolean[] inverted;
+
+		private AttributeList(ItemStack filter) {
+			CompoundNBT tag = filter.getOrCreateTag();
+			whitelistMode = WhitelistMode.values()[tag.getInt("WhitelistMode")];
+			ListNBT list = tag.getList("MatchedAttributes", NBT.TAG_COMPOUND);
+			attributes = new ArrayList<>(list.size());
+			List<Boolean> invertedList = new ArrayList<>(list.size());
+			for (INBT inbt : list) {
+				CompoundNBT compound = (CompoundNBT) inbt;
+				ItemAttribute attribute = ItemAttribute.fromNBT(compound);
+				if (attribute == null)
+					continue;
+				attributes.add(attribute);
+				invertedList.add(compound.getBoolean("Inverted"));
+			}
+			inverted = new boolean[invertedList.size()];
+			for (int i = 0; i < inverted.length; i++)
+				inverted[i] = invertedList.get(i);
+		}
+
+		@Override
+		boolean test(World world, ItemStack stack, boolean matchNBT) {
+			for (int i = 0; i < attributes.size(); i++) {
+				boolean matches = attributes.get(i)
+					.appliesTo(stack, world) != inverted[i];
+
+				if (matches) {
+					switch (whitelistMode) {
+					case BLACKLIST:
+						return false;
+					case WHITELIST_CONJ:
+						continue;
+					case WHITELIST_DISJ:
+						return true;
+					}
+				} else {
+					switch (whitelistMode) {
+					case BLACKLIST:
+						continue;
+					case WHITELIST_CONJ:
+						return false;
+					case WHITELIST_DISJ:
+						continue;
+					}
+				}
+			}
+
+			return whitelistMode != WhitelistMode.WHITELIST_DISJ;
+		}
+
+		@Override
+		boolean test(World world, FluidStack stack, boolean matchNBT) {
+			return false;
+		}
+
+	}
+
+	private static class Key {
+		private final Item item;
+		private final CompoundNBT tag;
+
+		private Key(Item item, CompoundNBT tag) {
+			this.item = item;
+			this.tag = tag;
+		}
+
+		private Key copy() {
+			return new Key(item, tag == null ? null : tag.copy());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return item == other.item && Objects.equals(tag, other.tag);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * item.hashCode() + Objects.hashCode(tag);
+		}
+	}
+
+}
@@ -8,7 +8,6 @@ import javax.annotation.Nonnull;
 
 import com.simibubi.create.AllItems;
 import com.simibubi.create.AllKeys;
-import com.simibubi.create.content.contraptions.processing.EmptyingByBasin;
 import com.simibubi.create.content.logistics.item.filter.AttributeFilterContainer.WhitelistMode;
 import com.simibubi.create.foundation.item.ItemDescription;
 import com.simibubi.create.foundation.utility.Lang;
@@ -37,7 +36,6 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.network.NetworkHooks;
-import net.minecraftforge.items.ItemHandlerHelper;
 import net.minecraftforge.items.ItemStackHandler;
 
 public class FilterItem extends Item implements INamedContainerProvider {
@@ -179,119 +177,13 @@ public class FilterItem extends Item implements INamedContainerProvider {
 	}
 
 	public static boolean test(World world, ItemStack stack, ItemStack filter) {
-		return test(world, stack, filter, false);
+		return CompiledFilter.of(filter)
+			.test(world, stack);
 	}
 
 	public static boolean test(World world, FluidStack stack, ItemStack filter) {
-		return test(world, stack, filter, true);
-	}
-
-	private static boolean test(World world, ItemStack stack, ItemStack filter, boolean matchNBT) {
-		if (filter.isEmpty())
-			return true;
-
-		if (!(filter.getItem() instanceof FilterItem))
-			return (matchNBT ? ItemHandlerHelper.canItemStacksStack(filter, stack)
-				: ItemStack.areItemsEqual(filter, stack));
-
-		if (AllItems.FILTER.get() == filter.getItem()) {
-			ItemStackHandler filterItems = getFilterItems(filter);
-			boolean respectNBT = filter.getOrCreateTag()
-				.getBoolean("RespectNBT");
-			boolean blacklist = filter.getOrCreateTag()
-				.getBoolean("Blacklist");
-			for (int slot = 0; slot < filterItems.getSlots(); slot++) {
-				ItemStack stackInSlot = filterItems.getStackInSlot(slot);
-				if (stackInSlot.isEmpty())
-					continue;
-				boolean matches = test(world, stack, stackInSlot, respectNBT);
-				if (matches)
-					return !blacklist;
-			}
-			return blacklist;
-		}
-
-		if (AllItems.ATTRIBUTE_FILTER.get() == filter.getItem()) {
-			WhitelistMode whitelistMode = WhitelistMode.values()[filter.getOrCreateTag()
-				.getInt("WhitelistMode")];
-			ListNBT attributes = filter.getOrCreateTag()
-				.getList("MatchedAttributes", NBT.TAG_COMPOUND);
-			for (INBT inbt : attributes) {
-				CompoundNBT compound = (CompoundNBT) inbt;
-				ItemAttribute attribute = ItemAttribute.fromNBT(compound);
-				boolean matches = attribute.appliesTo(stack, world) != compound.getBoolean("Inverted");
-
-				if (matches) {
-					switch (whitelistMode) {
-					case BLACKLIST:
-						return false;
-					case WHITELIST_CONJ:
-						continue;
-					case WHITELIST_DISJ:
-						return true;
-					}
-				} else {
-					switch (whitelistMode) {
-					case BLACKLIST:
-						continue;
-					case WHITELIST_CONJ:
-						return false;
-					case WHITELIST_DISJ:
-						continue;
-					}
-				}
-			}
-
-			switch (whitelistMode) {
-			case BLACKLIST:
-				return true;
-			case WHITELIST_CONJ:
-				return true;
-			case WHITELIST_DISJ:
-				return false;
-			}
-		}
-
-		return false;
-	}
-
-	private static boolean test(World world, FluidStack stack, ItemStack filter, boolean matchNBT) {
-		if (filter.isEmpty())
-			return true;
-		if (stack.isEmpty())
-			return false;
-
-		if (!(filter.getItem() instanceof FilterItem)) {
-			if (!EmptyingByBasin.canItemBeEmptied(world, filter))
-				return false;
-			FluidStack fluidInFilter = EmptyingByBasin.emptyItem(world, filter, true)
-				.getFirst();
-			if (fluidInFilter == null)
-				return false;
-			if (!matchNBT)
-				return fluidInFilter.getFluid()
-					.isEquivalentTo(stack.getFluid());
-			boolean fluidEqual = fluidInFilter.isFluidEqual(stack);
-			return fluidEqual;
-		}
-
-		if (AllItems.FILTER.get() == filter.getItem()) {
-			ItemStackHandler filterItems = getFilterItems(filter);
-			boolean respectNBT = filter.getOrCreateTag()
-				.getBoolean("RespectNBT");
-			boolean blacklist = filter.getOrCreateTag()
-				.getBoolean("Blacklist");
-			for (int slot = 0; slot < filterItems.getSlots(); slot++) {
-				ItemStack stackInSlot = filterItems.getStackInSlot(slot);
-				if (stackInSlot.isEmpty())
-					continue;
-				boolean matches = test(world, stack, stackInSlot, respectNBT);
-				if (matches)
-					return !blacklist;
-			}
-			return blacklist;
-		}
-		return false;
+		return CompiledFilter.of(filter)
+			.test(world, stack);
 	}
 
 }
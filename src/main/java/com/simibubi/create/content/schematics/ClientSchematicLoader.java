@@ -21,6 +21,8 @@ import com.simibubi.create.foundation.networking.AllPackets;
 import com.simibubi.create.foundation.utility.FilesHelper;
 import com.simibubi.create.foundation.utility.Lang;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.player.ClientPlayerEntity;
 import net.minecraft.util.text.ITextComponent;
@@ -31,30 +33,37 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 @OnlyIn(Dist.CLIENT)
 public class ClientSchematicLoader {
 
-	public static final int PACKET_DELAY = 10;
-
 	private List<ITextComponent> availableSchematics;
 	private Map<String, InputStream> activeUploads;
-	private int packetCycle;
+	private Object2IntMap<String> unacknowledgedChunks;
 
 	public ClientSchematicLoader() {
 		availableSchematics = new ArrayList<>();
 		activeUploads = new HashMap<>();
+		unacknowledgedChunks = new Object2IntOpenHashMap<>();
 		refresh();
 	}
 
 	public void tick() {
 		if (activeUploads.isEmpty())
 			return;
-		if (packetCycle-- > 0)
-			return;
-		packetCycle = PACKET_DELAY;
 
+		// Send a chunk per tick while the server keeps up with writing them
 		for (String schematic : new HashSet<>(activeUploads.keySet())) {
+			if (unacknowledgedChunks.getInt(schematic) >= ServerSchematicLoader.MAX_IN_FLIGHT_CHUNKS)
+				continue;
 			continueUpload(schematic);
 		}
 	}
 
+	public void handleAcknowledgement(String schematic) {
+		int remaining = unacknowledgedChunks.getInt(schematic) - 1;
+		if (remaining > 0)
+			unacknowledgedChunks.put(schematic, remaining);
+		else
+			unacknowledgedChunks.removeInt(schematic);
+	}
+
 	public void startNewUpload(String schematic) {
 		Path path = Paths.get("schematics", schematic);
 
@@ -73,6 +82,7 @@ public class ClientSchematicLoader {
 
 			in = Files.newInputStream(path, StandardOpenOption.READ);
 			activeUploads.put(schematic, in);
+			unacknowledgedChunks.removeInt(schematic);
 			AllPackets.channel.sendToServer(SchematicUploadPacket.begin(schematic, size));
 		} catch (IOException e) {
 			e.printStackTrace();
@@ -104,9 +114,10 @@ public class ClientSchematicLoader {
 				if (status != -1) {
 					if (status < maxPacketSize)
 						data = Arrays.copyOf(data, status);
-					if (Minecraft.getInstance().world != null)
+					if (Minecraft.getInstance().world != null) {
 						AllPackets.channel.sendToServer(SchematicUploadPacket.write(schematic, data));
-					else {
+						unacknowledgedChunks.put(schematic, unacknowledgedChunks.getInt(schematic) + 1);
+					} else {
 						activeUploads.remove(schematic);
 						return;
 					}
@@ -0,0 +1,110 @@
+package com.simibubi.create.content.schematics;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.IntNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.NBTSizeTracker;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.util.Constants.NBT;
+
+/**
+ * Summary of a validated schematic file. Headers are small enough to be stored
+ * next to uploaded schematics, so bounds queries do not need to inflate the
+ * whole structure again.
+ */
+public class SchematicHeader {
+
+	private final BlockPos size;
+	private final long sourceSize;
+	private final long sourceModified;
+
+	private SchematicHeader(BlockPos size, long sourceSize, long sourceModified) {
+		this.size = size;
+		this.sourceSize = sourceSize;
+		this.sourceModified = sourceModified;
+	}
+
+	/**
+	 * Parses and validates a schematic file.
+	 *
+	 * @return The header, or null if the file is not a valid structure
+	 */
+	public static SchematicHeader index(Path file) throws IOException {
+		CompoundNBT nbt;
+		try (DataInputStream stream = new DataInputStream(new BufferedInputStream(
+			new GZIPInputStream(Files.newInputStream(file, StandardOpenOption.READ))))) {
+			nbt = CompressedStreamTools.read(stream, new NBTSizeTracker(0x20000000L));
+		}
+
+		ListNBT sizeTag = nbt.getList("size", NBT.TAG_INT);
+		if (sizeTag.size() != 3 || !nbt.contains("blocks", NBT.TAG_LIST))
+			return null;
+
+		ListNBT palette;
+		if (nbt.contains("palettes", NBT.TAG_LIST))
+			palette = nbt.getList("palettes", NBT.TAG_LIST)
+				.getList(0);
+		else if (nbt.contains("palette", NBT.TAG_LIST))
+			palette = nbt.getList("palette", NBT.TAG_COMPOUND);
+		else
+			return null;
+
+		ListNBT blocks = nbt.getList("blocks", NBT.TAG_COMPOUND);
+		for (int i = 0; i < blocks.size(); i++) {
+			int state = blocks.getCompound(i)
+				.getInt("state");
+			if (state < 0 || state >= palette.size())
+				return null;
+		}
+
+		BlockPos size = new BlockPos(sizeTag.getInt(0), sizeTag.getInt(1), sizeTag.getInt(2));
+		return new SchematicHeader(size, Files.size(file), Files.getLastModifiedTime(file)
+			.toMillis());
+	}
+
+	/**
+	 * @return Whether this header was created from the current version of the file
+	 */
+	public boolean isUpToDate(Path file) {
+		try {
+			return Files.size(file) == sourceSize && Files.getLastModifiedTime(file)
+				.toMillis() == sourceModified;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	public BlockPos getSize() {
+		return size;
+	}
+
+	public CompoundNBT serializeNBT() {
+		CompoundNBT nbt = new CompoundNBT();
+		ListNBT sizeTag = new ListNBT();
+		sizeTag.add(IntNBT.valueOf(size.getX()));
+		sizeTag.add(IntNBT.valueOf(size.getY()));
+		sizeTag.add(IntNBT.valueOf(size.getZ()));
+		nbt.put("Size", sizeTag);
+		nbt.putLong("SourceSize", sourceSize);
+		nbt.putLong("SourceModified", sourceModified);
+		return nbt;
+	}
+
+	public static SchematicHeader fromNBT(CompoundNBT nbt) {
+		ListNBT sizeTag = nbt.getList("Size", NBT.TAG_INT);
+		if (sizeTag.size() != 3)
+			return null;
+		return new SchematicHeader(new BlockPos(sizeTag.getInt(0), sizeTag.getInt(1), sizeTag.getInt(2)),
+			nbt.getLong("SourceSize"), nbt.getLong("SourceModified"));
+	}
+
+}
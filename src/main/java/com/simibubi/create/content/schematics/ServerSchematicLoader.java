@@ -2,24 +2,33 @@ package com.simibubi.create.content.schematics;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.AllItems;
 import com.simibubi.create.Create;
 import com.simibubi.create.content.schematics.block.SchematicTableTileEntity;
 import com.simibubi.create.content.schematics.item.SchematicItem;
+import com.simibubi.create.content.schematics.packet.SchematicUploadAckPacket;
 import com.simibubi.create.foundation.config.AllConfigs;
 import com.simibubi.create.foundation.config.CSchematics;
+import com.simibubi.create.foundation.networking.AllPackets;
 import com.simibubi.create.foundation.utility.FilesHelper;
 
 import net.minecraft.block.BlockState;
@@ -27,6 +36,7 @@ import net.minecraft.block.Blocks;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
@@ -34,25 +44,48 @@ import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.template.Template;
+import net.minecraftforge.fml.network.PacketDistributor;
 
 public class ServerSchematicLoader {
 
+	/**
+	 * How many chunks of an upload may be waiting to be written before the client
+	 * has to wait for an acknowledgement.
+	 */
+	public static final int MAX_IN_FLIGHT_CHUNKS = 4;
+
+	// Disk writes of all uploads run in order on this thread, off the server thread
+	private static final ExecutorService IO = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "Create Schematic I/O");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	private Map<String, SchematicUploadEntry> activeUploads;
 
 	public class SchematicUploadEntry {
+		public ServerPlayerEntity player;
 		public World world;
 		public BlockPos tablePos;
-		public OutputStream stream;
+		public Path path;
+		public FileChannel channel;
 		public long bytesUploaded;
+		public long bytesWritten;
 		public long totalBytes;
+		public int chunksInFlight;
 		public int idleTime;
 
-		public SchematicUploadEntry(OutputStream stream, long totalBytes, World world, BlockPos tablePos) {
-			this.stream = stream;
+		public SchematicUploadEntry(Path path, FileChannel channel, long totalBytes, ServerPlayerEntity player,
+			BlockPos tablePos) {
+			this.path = path;
+			this.channel = channel;
 			this.totalBytes = totalBytes;
 			this.tablePos = tablePos;
-			this.world = world;
+			this.player = player;
+			this.world = player.getServerWorld();
 			this.bytesUploaded = 0;
+			this.bytesWritten = 0;
+			this.chunksInFlight = 0;
 			this.idleTime = 0;
 		}
 	}
@@ -122,6 +155,7 @@ public class ServerSchematicLoader {
 
 			// Delete schematic with same name
 			Files.deleteIfExists(uploadPath);
+			Files.deleteIfExists(getHeaderPath(playerSchematicId));
 
 			// Too many Schematics
 			long count;
@@ -137,12 +171,17 @@ public class ServerSchematicLoader {
 				list2.close();
 				if (lastFilePath.isPresent()) {
 					Files.deleteIfExists(lastFilePath.get());
+					Files.deleteIfExists(getHeaderPath(player.getGameProfile()
+						.getName() + "/"
+						+ lastFilePath.get()
+							.getFileName()));
 				}
 			}
 
-			// Open Stream
-			OutputStream writer = Files.newOutputStream(uploadPath);
-			activeUploads.put(playerSchematicId, new SchematicUploadEntry(writer, size, player.getServerWorld(), pos));
+			// Open Channel
+			FileChannel channel = FileChannel.open(uploadPath, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+			activeUploads.put(playerSchematicId, new SchematicUploadEntry(uploadPath, channel, size, player, pos));
 
 			// Notify Tile Entity
 			table.startUpload(schematic);
@@ -174,6 +213,7 @@ public class ServerSchematicLoader {
 
 		if (activeUploads.containsKey(playerSchematicId)) {
 			SchematicUploadEntry entry = activeUploads.get(playerSchematicId);
+			long position = entry.bytesUploaded;
 			entry.bytesUploaded += data.length;
 
 			// Size Validations
@@ -189,22 +229,60 @@ public class ServerSchematicLoader {
 				return;
 			}
 
-			try {
-				entry.stream.write(data);
-				entry.idleTime = 0;
-
-				SchematicTableTileEntity table = getTable(entry.world, entry.tablePos);
-				if (table == null)
-					return;
-				table.uploadingProgress = (float) ((double) entry.bytesUploaded / entry.totalBytes);
-				table.sendUpdate = true;
-
-			} catch (IOException e) {
-				Create.logger.error("Exception Thrown when uploading Schematic: " + playerSchematicId);
-				e.printStackTrace();
+			// Client did not wait for acknowledgements
+			if (entry.chunksInFlight >= MAX_IN_FLIGHT_CHUNKS) {
+				Create.logger.warn("Received too many unacknowledged Upload Packets: " + playerSchematicId);
 				cancelUpload(playerSchematicId);
+				return;
 			}
+
+			entry.chunksInFlight++;
+			entry.idleTime = 0;
+
+			// The packet's array is written as is, no intermediate copy
+			ByteBuffer buffer = ByteBuffer.wrap(data);
+			FileChannel channel = entry.channel;
+			MinecraftServer server = player.getServer();
+			IO.execute(() -> {
+				boolean success = true;
+				try {
+					long offset = position;
+					while (buffer.hasRemaining())
+						offset += channel.write(buffer, offset);
+				} catch (IOException e) {
+					Create.logger.error("Exception Thrown when uploading Schematic: " + playerSchematicId);
+					e.printStackTrace();
+					success = false;
+				}
+
+				boolean written = success;
+				server.execute(() -> onChunkWritten(playerSchematicId, entry, data.length, written));
+			});
+		}
+	}
+
+	protected void onChunkWritten(String playerSchematicId, SchematicUploadEntry entry, int length, boolean success) {
+		// Upload was cancelled or finished in the meantime
+		if (activeUploads.get(playerSchematicId) != entry)
+			return;
+
+		if (!success) {
+			cancelUpload(playerSchematicId);
+			return;
 		}
+
+		entry.chunksInFlight--;
+		entry.bytesWritten += length;
+		entry.idleTime = 0;
+		String schematic = playerSchematicId.substring(playerSchematicId.indexOf('/') + 1);
+		AllPackets.channel.send(PacketDistributor.PLAYER.with(() -> entry.player),
+			new SchematicUploadAckPacket(schematic));
+
+		SchematicTableTileEntity table = getTable(entry.world, entry.tablePos);
+		if (table == null)
+			return;
+		table.uploadingProgress = (float) ((double) entry.bytesWritten / entry.totalBytes);
+		table.sendUpdate = true;
 	}
 
 	protected void cancelUpload(String playerSchematicId) {
@@ -212,15 +290,19 @@ public class ServerSchematicLoader {
 			return;
 
 		SchematicUploadEntry entry = activeUploads.remove(playerSchematicId);
-		try {
-			entry.stream.close();
-			Files.deleteIfExists(Paths.get(getSchematicPath(), playerSchematicId));
-			Create.logger.warn("Cancelled Schematic Upload: " + playerSchematicId);
+		Path headerPath = getHeaderPath(playerSchematicId);
+		IO.execute(() -> {
+			try {
+				entry.channel.close();
+				Files.deleteIfExists(entry.path);
+				Files.deleteIfExists(headerPath);
+				Create.logger.warn("Cancelled Schematic Upload: " + playerSchematicId);
 
-		} catch (IOException e) {
-			Create.logger.error("Exception Thrown when cancelling Upload: " + playerSchematicId);
-			e.printStackTrace();
-		}
+			} catch (IOException e) {
+				Create.logger.error("Exception Thrown when cancelling Upload: " + playerSchematicId);
+				e.printStackTrace();
+			}
+		});
 
 		BlockPos pos = entry.tablePos;
 		if (pos == null)
@@ -243,33 +325,105 @@ public class ServerSchematicLoader {
 		String playerSchematicId = player.getGameProfile().getName() + "/" + schematic;
 
 		if (activeUploads.containsKey(playerSchematicId)) {
-			try {
-				activeUploads.get(playerSchematicId).stream.close();
-				SchematicUploadEntry removed = activeUploads.remove(playerSchematicId);
-				World world = removed.world;
-				BlockPos pos = removed.tablePos;
+			SchematicUploadEntry entry = activeUploads.get(playerSchematicId);
+			if (entry.bytesUploaded != entry.totalBytes) {
+				Create.logger.warn("Received less data than Expected: " + playerSchematicId);
+				cancelUpload(playerSchematicId);
+				return;
+			}
 
-				Create.logger.info("New Schematic Uploaded: " + playerSchematicId);
-				if (pos == null)
-					return;
+			activeUploads.remove(playerSchematicId);
+			Path headerPath = getHeaderPath(playerSchematicId);
+			MinecraftServer server = player.getServer();
+
+			// Runs after all pending writes of this upload
+			IO.execute(() -> {
+				SchematicHeader header = null;
+				try {
+					entry.channel.force(false);
+					entry.channel.close();
+					header = SchematicHeader.index(entry.path);
+					if (header != null)
+						writeHeader(headerPath, header);
+					else
+						Files.deleteIfExists(entry.path);
+
+				} catch (IOException e) {
+					Create.logger.error("Exception Thrown when finishing Upload: " + playerSchematicId);
+					e.printStackTrace();
+				}
 
-				BlockState blockState = world.getBlockState(pos);
-				if (AllBlocks.SCHEMATIC_TABLE.get() != blockState.getBlock())
-					return;
+				boolean valid = header != null;
+				server.execute(() -> onUploadFinished(player, schematic, entry, valid));
+			});
+		}
+	}
 
-				SchematicTableTileEntity table = getTable(world, pos);
-				if (table == null)
-					return;
-				table.finishUpload();
-				table.inventory.setStackInSlot(1, SchematicItem.create(schematic, player.getGameProfile().getName()));
+	protected void onUploadFinished(ServerPlayerEntity player, String schematic, SchematicUploadEntry entry,
+		boolean valid) {
+		String playerSchematicId = player.getGameProfile().getName() + "/" + schematic;
+		World world = entry.world;
+		BlockPos pos = entry.tablePos;
 
-			} catch (IOException e) {
-				Create.logger.error("Exception Thrown when finishing Upload: " + playerSchematicId);
-				e.printStackTrace();
+		if (valid)
+			Create.logger.info("New Schematic Uploaded: " + playerSchematicId);
+		else
+			Create.logger.warn("Uploaded Schematic is not a valid Structure: " + playerSchematicId);
+		if (pos == null)
+			return;
+
+		BlockState blockState = world.getBlockState(pos);
+		if (AllBlocks.SCHEMATIC_TABLE.get() != blockState.getBlock())
+			return;
+
+		SchematicTableTileEntity table = getTable(world, pos);
+		if (table == null)
+			return;
+		table.finishUpload();
+		if (valid)
+			table.inventory.setStackInSlot(1, SchematicItem.create(schematic, player.getGameProfile().getName()));
+	}
+
+	/**
+	 * Looks up the header of an uploaded schematic, indexing the file if it has
+	 * not been indexed yet or has changed since.
+	 */
+	@Nullable
+	public SchematicHeader getHeader(String owner, String schematic) {
+		Path dir = Paths.get(getSchematicPath()).toAbsolutePath();
+		Path path = dir.resolve(Paths.get(owner, schematic)).normalize();
+		if (!path.startsWith(dir) || !Files.exists(path))
+			return null;
+
+		Path headerPath = getHeaderPath(owner + "/" + schematic);
+		try {
+			if (Files.exists(headerPath)) {
+				CompoundNBT nbt = CompressedStreamTools.read(headerPath.toFile());
+				SchematicHeader header = nbt == null ? null : SchematicHeader.fromNBT(nbt);
+				if (header != null && header.isUpToDate(path))
+					return header;
 			}
+
+			SchematicHeader header = SchematicHeader.index(path);
+			if (header != null)
+				writeHeader(headerPath, header);
+			return header;
+
+		} catch (IOException e) {
+			Create.logger.warn("Failed to index Schematic: " + owner + "/" + schematic, e);
+			return null;
 		}
 	}
 
+	protected Path getHeaderPath(String playerSchematicId) {
+		return Paths.get(getSchematicPath(), ".index", playerSchematicId).toAbsolutePath();
+	}
+
+	private static void writeHeader(Path headerPath, SchematicHeader header) throws IOException {
+		Files.createDirectories(headerPath.getParent());
+		CompressedStreamTools.write(header.serializeNBT(), headerPath.toFile());
+	}
+
 	public void handleInstantSchematic(ServerPlayerEntity player, String schematic, World world, BlockPos pos,
 		BlockPos bounds) {
 		String playerPath = getSchematicPath() + "/" + player.getGameProfile().getName();
@@ -297,6 +451,7 @@ public class ServerSchematicLoader {
 		try {
 			// Delete schematic with same name
 			Files.deleteIfExists(path);
+			Files.deleteIfExists(getHeaderPath(playerSchematicId));
 
 			// Too many Schematics
 			long count;
@@ -62,7 +62,10 @@ public class SchematicannonBlock extends Block implements ITE<SchematicannonTile
 		if (!state.hasTileEntity() || state.getBlock() == newState.getBlock())
 			return;
 
-		withTileEntityDo(worldIn, pos, te -> ItemHelper.dropContents(worldIn, pos, te.inventory));
+		withTileEntityDo(worldIn, pos, te -> {
+			te.releaseReservedItems();
+			ItemHelper.dropContents(worldIn, pos, te.inventory);
+		});
 		worldIn.removeTileEntity(pos);
 	}
 
@@ -0,0 +1,74 @@
+package com.simibubi.create.content.schematics.block;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * The order in which a schematicannon visits the blocks of its schematic. Only
+ * non-air positions are listed, packed into a long array and sorted by chunk,
+ * then by layer, so the cannon does not spend ticks on empty space.
+ */
+public class SchematicannonPlan {
+
+	private final long[] positions;
+
+	private SchematicannonPlan(long[] positions) {
+		this.positions = positions;
+	}
+
+	/**
+	 * Collects the targets on the calling thread and sorts them in the
+	 * background.
+	 *
+	 * @param blocks schematic-local positions and the states to place there
+	 * @param anchor the world position of the schematic's origin, which decides
+	 *               the chunks its blocks fall into
+	 */
+	public static CompletableFuture<SchematicannonPlan> create(Map<BlockPos, BlockState> blocks, BlockPos anchor) {
+		long[] positions = new long[blocks.size()];
+		int size = 0;
+		for (Entry<BlockPos, BlockState> entry : blocks.entrySet())
+			if (!entry.getValue()
+				.isAir())
+				positions[size++] = entry.getKey()
+					.toLong();
+
+		final int count = size;
+		final int offsetX = anchor.getX();
+		final int offsetZ = anchor.getZ();
+		return CompletableFuture.supplyAsync(() -> {
+			long[] sorted = LongArrays.trim(positions, count);
+			LongArrays.quickSort(sorted, (a, b) -> compare(a, b, offsetX, offsetZ));
+			return new SchematicannonPlan(sorted);
+		});
+	}
+
+	private static int compare(long a, long b, int offsetX, int offsetZ) {
+		int ax = BlockPos.unpackX(a), ay = BlockPos.unpackY(a), az = BlockPos.unpackZ(a);
+		int bx = BlockPos.unpackX(b), by = BlockPos.unpackY(b), bz = BlockPos.unpackZ(b);
+		int result = Integer.compare((ax + offsetX) >> 4, (bx + offsetX) >> 4);
+		if (result == 0)
+			result = Integer.compare((az + offsetZ) >> 4, (bz + offsetZ) >> 4);
+		if (result == 0)
+			result = Integer.compare(ay, by);
+		if (result == 0)
+			result = Integer.compare(az, bz);
+		if (result == 0)
+			result = Integer.compare(ax, bx);
+		return result;
+	}
+
+	public int size() {
+		return positions.length;
+	}
+
+	public BlockPos get(int index) {
+		return BlockPos.fromLong(positions[index]);
+	}
+
+}
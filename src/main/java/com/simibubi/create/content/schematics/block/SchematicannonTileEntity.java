@@ -1,8 +1,11 @@
 package com.simibubi.create.content.schematics.block;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -32,12 +35,15 @@ import com.simibubi.create.foundation.utility.BlockHelper;
 import com.simibubi.create.foundation.utility.Iterate;
 import com.simibubi.create.foundation.utility.NBTProcessors;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.PistonHeadBlock;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.inventory.InventoryHelper;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.inventory.container.INamedContainerProvider;
 import net.minecraft.item.BlockItem;
@@ -100,6 +106,16 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 	private int skipsLeft;
 	private boolean blockSkipped;
 	private int printingEntityIndex;
+	private SchematicannonPlan plan;
+	private CompletableFuture<SchematicannonPlan> pendingPlan;
+	private int planIndex;
+	private boolean clearingAir;
+	private List<Entity> schematicEntities;
+
+	// Items taken from attached inventories ahead of time, sized by what is left to place. The stacks keep
+	// their tags and may exceed their maximum size.
+	private List<ItemStack> reservedItems;
+	private Object2IntMap<Item> remainingRequirements;
 
 	public BlockPos target;
 	public BlockPos previousTarget;
@@ -144,6 +160,9 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 		statusMsg = "idle";
 		state = State.STOPPED;
 		printingEntityIndex = -1;
+		planIndex = -1;
+		reservedItems = new ArrayList<>();
+		remainingRequirements = new Object2IntOpenHashMap<>();
 		replaceMode = 2;
 		checklist = new MaterialChecklist();
 	}
@@ -176,6 +195,17 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 			inventory.deserializeNBT(compound.getCompound("Inventory"));
 			if (compound.contains("CurrentPos"))
 				currentPos = NBTUtil.readBlockPos(compound.getCompound("CurrentPos"));
+			planIndex = compound.contains("PlanProgress") ? compound.getInt("PlanProgress") : -1;
+			clearingAir = compound.getBoolean("ClearingAir");
+
+			reservedItems.clear();
+			ListNBT reserved = compound.getList("ReservedItems", 10);
+			for (int i = 0; i < reserved.size(); i++) {
+				CompoundNBT c = reserved.getCompound(i);
+				ItemStack stack = ItemStack.read(c);
+				if (!stack.isEmpty())
+					reservedItems.add(ItemHandlerHelper.copyStackWithSize(stack, c.getInt("Amount")));
+			}
 		}
 
 		// Gui information
@@ -250,7 +280,18 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 				compound.putBoolean("Running", true);
 				if (currentPos != null)
 					compound.put("CurrentPos", NBTUtil.writeBlockPos(currentPos));
+				compound.putInt("PlanProgress", planIndex);
+				compound.putBoolean("ClearingAir", clearingAir);
+			}
+
+			ListNBT reserved = new ListNBT();
+			for (ItemStack stack : reservedItems) {
+				CompoundNBT c = ItemHandlerHelper.copyStackWithSize(stack, 1)
+					.serializeNBT();
+				c.putInt("Amount", stack.getCount());
+				reserved.add(c);
 			}
+			compound.put("ReservedItems", reserved);
 		}
 
 		// Gui information
@@ -353,6 +394,14 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 			return;
 		}
 
+		// Wait for the placement plan
+		if (plan == null) {
+			if (pendingPlan == null || !pendingPlan.isDone())
+				return;
+			plan = pendingPlan.join();
+			pendingPlan = null;
+		}
+
 		// Cooldown from last shot
 		if (printerCooldown > 0) {
 			printerCooldown--;
@@ -409,8 +458,7 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 		ItemRequirement requirement;
 
 		if (entityMode) {
-			requirement = ItemRequirement.of(blockReader.getEntities().collect(Collectors.toList())
-				.get(printingEntityIndex));
+			requirement = ItemRequirement.of(schematicEntities.get(printingEntityIndex));
 
 		} else {
 			blockState = BlockHelper.setZeroAge(blockReader.getBlockState(target));
@@ -459,8 +507,7 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 
 		ItemStack icon = requirement.isEmpty() || requiredItems.isEmpty() ? ItemStack.EMPTY : requiredItems.get(0);
 		if (entityMode)
-			launchEntity(target, icon, blockReader.getEntities().collect(Collectors.toList())
-				.get(printingEntityIndex));
+			launchEntity(target, icon, schematicEntities.get(printingEntityIndex));
 		else if (AllBlocks.BELT.has(blockState)) {
 			TileEntity te = blockReader.getTileEntity(currentPos.add(schematicAnchor));
 			blockState = stripBeltIfNotLast(blockState);
@@ -559,6 +606,10 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 		blockReader = new SchematicWorld(schematicAnchor, world);
 		PlacementSettings settings = SchematicItem.getSettings(blueprint);
 		activeTemplate.place(blockReader, schematicAnchor, settings, blockReader.getRandom());
+		schematicEntities = blockReader.getEntities()
+			.collect(Collectors.toList());
+		plan = null;
+		pendingPlan = SchematicannonPlan.create(blockReader.getBlockMap(), schematicAnchor);
 		schematicLoaded = true;
 		state = State.PAUSED;
 		statusMsg = "ready";
@@ -566,8 +617,13 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 		updateChecklist();
 		sendUpdate = true;
 		blocksToPlace += blocksPlaced;
+
+		// Resume at the position the cannon stopped at
 		MutableBoundingBox bounds = blockReader.getBounds();
-		currentPos = currentPos != null ? currentPos.west() : new BlockPos(bounds.minX - 1, bounds.minY, bounds.minZ);
+		if (clearingAir)
+			currentPos = currentPos != null ? currentPos.west() : new BlockPos(bounds.minX - 1, bounds.minY, bounds.minZ);
+		else if (planIndex >= 0)
+			planIndex--;
 	}
 
 	protected ItemStack getItemForBlock(BlockState blockState) {
@@ -610,59 +666,71 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 		}
 
 		// Find and remove
-		boolean success = false;
-		if (usage == ItemUseType.CONSUME) {
-			int amountFound = 0;
-			for (LazyOptional<IItemHandler> cap : attachedInventories) {
-				IItemHandler iItemHandler = cap.orElse(EmptyHandler.INSTANCE);
-				amountFound += ItemHelper
-					.extract(iItemHandler, s -> ItemRequirement.validate(required, s), ExtractionCountMode.UPTO,
-						required.getCount(), true)
-					.getCount();
-
-				if (amountFound < required.getCount())
-					continue;
+		if (usage != ItemUseType.CONSUME)
+			return false;
 
-				success = true;
-				break;
-			}
+		Item item = required.getItem();
+		int needed = required.getCount();
+		int reserved = getReservedCount(required);
+		if (reserved >= needed) {
+			if (!simulate)
+				consumeReserved(required, needed);
+			return true;
 		}
 
-		if (!simulate && success) {
-			int amountFound = 0;
-			for (LazyOptional<IItemHandler> cap : attachedInventories) {
-				IItemHandler iItemHandler = cap.orElse(EmptyHandler.INSTANCE);
-				amountFound += ItemHelper
-					.extract(iItemHandler, s -> ItemRequirement.validate(required, s), ExtractionCountMode.UPTO,
-						required.getCount(), false)
-					.getCount();
-				if (amountFound < required.getCount())
-					continue;
+		// Take as much as the rest of the schematic will need, up to a stack at a time
+		int batch = Math.max(needed, Math.min(required.getMaxStackSize(), remainingRequirements.getInt(item))) - reserved;
+		int amountFound = 0;
+		for (LazyOptional<IItemHandler> cap : attachedInventories) {
+			IItemHandler iItemHandler = cap.orElse(EmptyHandler.INSTANCE);
+			ItemStack extracted = ItemHelper.extract(iItemHandler, s -> ItemRequirement.validate(required, s),
+				ExtractionCountMode.UPTO, batch - amountFound, simulate);
+			amountFound += extracted.getCount();
+			if (!simulate)
+				reserve(extracted);
+			if (amountFound >= batch)
 				break;
-			}
 		}
 
+		boolean success = reserved + amountFound >= needed;
+		if (!simulate && success)
+			consumeReserved(required, needed);
+
 		return success;
 	}
 
 	protected void advanceCurrentPos() {
-		List<Entity> entities = blockReader.getEntities().collect(Collectors.toList());
 		if (printingEntityIndex != -1) {
 			printingEntityIndex++;
 
 			// End of entities reached
-			if (printingEntityIndex >= entities.size()) {
+			if (printingEntityIndex >= schematicEntities.size()) {
 				finishedPrinting();
 				return;
 			}
 
-			currentPos = entities.get(printingEntityIndex)
+			currentPos = schematicEntities.get(printingEntityIndex)
 				.getBlockPos()
 				.subtract(schematicAnchor);
 			return;
 		}
 
 		MutableBoundingBox bounds = blockReader.getBounds();
+		if (!clearingAir) {
+			if (planIndex + 1 < plan.size()) {
+				currentPos = plan.get(++planIndex);
+				return;
+			}
+
+			// The plan only lists blocks, clearing out everything else needs a sweep of the whole area
+			if (replaceMode != 3) {
+				startPrintingEntities();
+				return;
+			}
+			clearingAir = true;
+			currentPos = new BlockPos(bounds.minX - 1, bounds.minY, bounds.minZ);
+		}
+
 		currentPos = currentPos.offset(Direction.EAST);
 		BlockPos posInBounds = currentPos.add(-bounds.minX, -bounds.minY, -bounds.minZ);
 
@@ -672,16 +740,86 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 			currentPos = new BlockPos(currentPos.getX(), currentPos.getY() + 1, bounds.minZ).west();
 
 		// End of blocks reached
-		if (currentPos.getY() > bounds.getYSize()) {
-			printingEntityIndex = 0;
-			if (entities.isEmpty()) {
-				finishedPrinting();
+		if (currentPos.getY() > bounds.getYSize())
+			startPrintingEntities();
+	}
+
+	protected void startPrintingEntities() {
+		printingEntityIndex = 0;
+		if (schematicEntities.isEmpty()) {
+			finishedPrinting();
+			return;
+		}
+		currentPos = schematicEntities.get(0)
+			.getBlockPos()
+			.subtract(schematicAnchor);
+	}
+
+	private int getReservedCount(ItemStack required) {
+		int count = 0;
+		for (ItemStack stack : reservedItems)
+			if (ItemRequirement.validate(required, stack))
+				count += stack.getCount();
+		return count;
+	}
+
+	private void reserve(ItemStack extracted) {
+		if (extracted.isEmpty())
+			return;
+		for (ItemStack stack : reservedItems) {
+			if (ItemHandlerHelper.canItemStacksStack(stack, extracted)) {
+				stack.grow(extracted.getCount());
 				return;
 			}
-			currentPos = entities.get(0)
-				.getBlockPos()
-				.subtract(schematicAnchor);
 		}
+		reservedItems.add(extracted.copy());
+	}
+
+	private void consumeReserved(ItemStack required, int amount) {
+		int toConsume = amount;
+		for (Iterator<ItemStack> iterator = reservedItems.iterator(); iterator.hasNext() && toConsume > 0;) {
+			ItemStack stack = iterator.next();
+			if (!ItemRequirement.validate(required, stack))
+				continue;
+			int consumed = Math.min(toConsume, stack.getCount());
+			stack.shrink(consumed);
+			toConsume -= consumed;
+			if (stack.isEmpty())
+				iterator.remove();
+		}
+
+		Item item = required.getItem();
+		int left = remainingRequirements.getInt(item) - amount;
+		if (left > 0)
+			remainingRequirements.put(item, left);
+		else
+			remainingRequirements.removeInt(item);
+	}
+
+	/**
+	 * Returns items taken ahead of time to the attached inventories, or drops
+	 * them if they do not fit.
+	 */
+	public void releaseReservedItems() {
+		if (reservedItems.isEmpty() || world == null || world.isRemote)
+			return;
+
+		for (ItemStack reserved : reservedItems) {
+			int amount = reserved.getCount();
+			while (amount > 0) {
+				ItemStack stack =
+					ItemHandlerHelper.copyStackWithSize(reserved, Math.min(amount, reserved.getMaxStackSize()));
+				amount -= stack.getCount();
+				for (LazyOptional<IItemHandler> cap : attachedInventories) {
+					if (stack.isEmpty())
+						break;
+					stack = ItemHandlerHelper.insertItemStacked(cap.orElse(EmptyHandler.INSTANCE), stack, false);
+				}
+				if (!stack.isEmpty())
+					InventoryHelper.spawnItemStack(world, pos.getX(), pos.getY(), pos.getZ(), stack);
+			}
+		}
+		reservedItems.clear();
 	}
 
 	public void finishedPrinting() {
@@ -698,6 +836,7 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 	}
 
 	protected void resetPrinter() {
+		releaseReservedItems();
 		schematicLoaded = false;
 		schematicAnchor = null;
 		currentPos = null;
@@ -705,6 +844,14 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 		missingItem = null;
 		sendUpdate = true;
 		printingEntityIndex = -1;
+		if (pendingPlan != null)
+			pendingPlan.cancel(false);
+		pendingPlan = null;
+		plan = null;
+		planIndex = -1;
+		clearingAir = false;
+		schematicEntities = null;
+		remainingRequirements.clear();
 		schematicProgress = 0;
 		blocksPlaced = 0;
 		blocksToPlace = 0;
@@ -929,7 +1076,12 @@ public class SchematicannonTileEntity extends SmartTileEntity implements INamedC
 			});
 
 		}
+		remainingRequirements.clear();
+		remainingRequirements.putAll(checklist.required);
+
 		checklist.gathered.clear();
+		for (ItemStack stack : reservedItems)
+			checklist.collect(stack.copy());
 		findInventories();
 		for (LazyOptional<IItemHandler> cap : attachedInventories) {
 			if (!cap.isPresent())
@@ -16,6 +16,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.simibubi.create.AllItems;
+import com.simibubi.create.Create;
+import com.simibubi.create.content.schematics.SchematicHeader;
 import com.simibubi.create.content.schematics.SchematicProcessor;
 import com.simibubi.create.content.schematics.client.SchematicEditScreen;
 import com.simibubi.create.content.schematics.filtering.SchematicInstances;
@@ -93,8 +95,18 @@ public class SchematicItem extends Item {
 
 	public static void writeSize(ItemStack blueprint) {
 		CompoundNBT tag = blueprint.getTag();
-		Template t = loadSchematic(blueprint);
-		tag.put("Bounds", NBTUtil.writeBlockPos(t.getSize()));
+		BlockPos size = null;
+
+		// Uploaded schematics are indexed, no need to read the whole structure
+		if (Thread.currentThread().getThreadGroup() == SidedThreadGroups.SERVER) {
+			SchematicHeader header = Create.schematicReceiver.getHeader(tag.getString("Owner"), tag.getString("File"));
+			if (header != null)
+				size = header.getSize();
+		}
+		if (size == null)
+			size = loadSchematic(blueprint).getSize();
+
+		tag.put("Bounds", NBTUtil.writeBlockPos(size));
 		blueprint.setTag(tag);
 		SchematicInstances.clearHash(blueprint);
 	}
@@ -0,0 +1,41 @@
+package com.simibubi.create.content.schematics.packet;
+
+import java.util.function.Supplier;
+
+import com.simibubi.create.CreateClient;
+import com.simibubi.create.foundation.networking.SimplePacketBase;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Sent by the server once an uploaded chunk has been written to disk, allowing
+ * the client to send the next one.
+ */
+public class SchematicUploadAckPacket extends SimplePacketBase {
+
+	private String schematic;
+
+	public SchematicUploadAckPacket(String schematic) {
+		this.schematic = schematic;
+	}
+
+	public SchematicUploadAckPacket(PacketBuffer buffer) {
+		schematic = buffer.readString(256);
+	}
+
+	public void write(PacketBuffer buffer) {
+		buffer.writeString(schematic);
+	}
+
+	public void handle(Supplier<Context> context) {
+		context.get()
+			.enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT,
+				() -> () -> CreateClient.schematicSender.handleAcknowledgement(schematic)));
+		context.get()
+			.setPacketHandled(true);
+	}
+
+}
@@ -2,21 +2,29 @@ package com.simibubi.create.events;
 
 import com.simibubi.create.AllFluids;
 import com.simibubi.create.Create;
+import com.simibubi.create.content.contraptions.RotationPropagator;
+import com.simibubi.create.content.contraptions.components.fan.AirCurrentTracker;
 import com.simibubi.create.content.contraptions.components.structureMovement.ContraptionHandler;
+import com.simibubi.create.content.contraptions.components.structureMovement.sync.ContraptionBlocksPacket;
 import com.simibubi.create.content.contraptions.components.structureMovement.train.CouplingPhysics;
 import com.simibubi.create.content.contraptions.components.structureMovement.train.capability.CapabilityMinecartController;
 import com.simibubi.create.content.contraptions.fluids.recipe.FluidTransferRecipes;
 import com.simibubi.create.content.contraptions.fluids.recipe.PotionMixingRecipeManager;
+import com.simibubi.create.content.contraptions.processing.BasinRecipeIndex;
 import com.simibubi.create.content.contraptions.wrench.WrenchItem;
 import com.simibubi.create.content.curiosities.zapper.ZapperInteractionHandler;
 import com.simibubi.create.content.curiosities.zapper.ZapperItem;
 import com.simibubi.create.content.schematics.ServerSchematicLoader;
 import com.simibubi.create.foundation.command.AllCommands;
 import com.simibubi.create.foundation.fluid.FluidHelper;
+import com.simibubi.create.foundation.item.ItemHandlerIndex;
+import com.simibubi.create.foundation.tileEntity.TickWheel;
+import com.simibubi.create.foundation.tileEntity.TileEntitySyncHandler;
 import com.simibubi.create.foundation.utility.Iterate;
 import com.simibubi.create.foundation.utility.ServerSpeedProvider;
 import com.simibubi.create.foundation.utility.WorldAttached;
 import com.simibubi.create.foundation.utility.recipe.RecipeFinder;
+import com.simibubi.create.foundation.utility.recipe.SingleItemRecipeCache;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
@@ -40,6 +48,7 @@ import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
 import net.minecraftforge.event.entity.player.AttackEntityEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.world.BlockEvent.FluidPlaceBlockEvent;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
 import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
@@ -58,6 +67,7 @@ public class CommonEvents {
 			Create.schematicReceiver = new ServerSchematicLoader();
 		Create.schematicReceiver.tick();
 		Create.lagger.tick();
+		ItemHandlerIndex.tick();
 		ServerSpeedProvider.serverTick();
 	}
 
@@ -66,6 +76,11 @@ public class CommonEvents {
 		CapabilityMinecartController.onChunkUnloaded(event);
 	}
 
+	@SubscribeEvent
+	public static void onNeighbourNotify(NeighborNotifyEvent event) {
+		AirCurrentTracker.onBlockChanged(event.getWorld(), event.getPos());
+	}
+
 	@SubscribeEvent
 	public static void whenFluidsMeet(FluidPlaceBlockEvent event) {
 		BlockState blockState = event.getOriginalState();
@@ -96,6 +111,13 @@ public class CommonEvents {
 		ContraptionHandler.tick(world);
 		CapabilityMinecartController.tick(world);
 		CouplingPhysics.tick(world);
+		RotationPropagator.tick(world);
+		AirCurrentTracker.tick(world);
+		if (!world.isRemote) {
+			Create.torquePropagator.tick(world);
+			TickWheel.tick(world);
+			TileEntitySyncHandler.tick(world);
+		}
 	}
 
 	@SubscribeEvent
@@ -127,8 +149,10 @@ public class CommonEvents {
 	@SubscribeEvent
 	public static void registerReloadListeners(AddReloadListenerEvent event) {
 		event.addListener(RecipeFinder.LISTENER);
+		event.addListener(SingleItemRecipeCache.LISTENER);
 		event.addListener(PotionMixingRecipeManager.LISTENER);
 		event.addListener(FluidTransferRecipes.LISTENER);
+		event.addListener(BasinRecipeIndex.LISTENER);
 	}
 
 	@SubscribeEvent
@@ -159,6 +183,7 @@ public class CommonEvents {
 	@SubscribeEvent
 	public static void startTracking(PlayerEvent.StartTracking event) {
 		CapabilityMinecartController.startTracking(event);
+		ContraptionBlocksPacket.startTracking(event);
 	}
 
 	public static void leftClickEmpty(ServerPlayerEntity player) {
@@ -34,6 +34,15 @@ public class CClient extends ConfigBase {
 	public ConfigBool comfyReading =
 		b(false, "comfyReading", "Slow down a ponder scene whenever there is text on screen.");
 
+	public ConfigGroup instancing = group(1, "instancing", "Settings for the instanced rendering of kinetic blocks");
+	public ConfigBool instanceCulling = b(true, "enableCulling",
+		"Skip drawing and animating instances in chunk sections outside of the view frustum.");
+	public ConfigInt instanceCullDistance = i(0, 0, "cullDistance",
+		"Skip drawing and animating instances further than this many blocks from the camera.",
+		"Choose 0 to not cull instances by distance");
+	public ConfigInt instanceLodDistance = i(32, 1, "lodDistance",
+		"Animated instances further than this many blocks from the camera update at a lower rate.");
+
 	@Override
 	public String getName() {
 		return "client";
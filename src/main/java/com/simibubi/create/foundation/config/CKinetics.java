@@ -33,6 +33,7 @@ public class CKinetics extends ConfigBase {
 	public ConfigInt maxPistonPoles = i(64, 1, "maxPistonPoles", Comments.maxPistonPoles);
 	public ConfigInt maxRopeLength = i(128, 1, "maxRopeLength", Comments.maxRopeLength);
 	public ConfigInt maxCartCouplingLength = i(32, 1, "maxCartCouplingLength", Comments.maxCartCouplingLength);
+	public ConfigInt assemblyTimeBudget = i(0, 0, "assemblyTimeBudget", Comments.assemblyTimeBudget);
 
 	public CStress stressValues = nested(1, CStress::new, Comments.stress);
 
@@ -69,6 +70,8 @@ public class CKinetics extends ConfigBase {
 		static String maxPistonPoles = "Maximum amount of extension poles behind a Mechanical Piston.";
 		static String maxRopeLength = "Max length of rope available off a Rope Pulley.";
 		static String maxCartCouplingLength = "Maximum allowed distance of two coupled minecarts.";
+		static String assemblyTimeBudget =
+			"Milliseconds a Mechanical Bearing may spend per tick searching the structure it assembles. Larger structures take several ticks to assemble. [0 to search in a single tick]";
 		static String stats = "Configure speed/capacity levels for requirements and indicators.";
 		static String rpm = "[in Revolutions per Minute]";
 		static String su = "[in Stress Units]";
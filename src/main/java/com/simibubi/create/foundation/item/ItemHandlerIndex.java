@@ -0,0 +1,251 @@
+package com.simibubi.create.foundation.item;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import com.simibubi.create.foundation.item.ItemHelper.ExtractionCountMode;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.common.thread.EffectiveSide;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+import net.minecraftforge.items.ItemStackHandler;
+import net.minecraftforge.items.wrapper.InvWrapper;
+
+/**
+ * Slots of an item handler grouped by stackable item, taken at most once per
+ * server tick. Lookups always verify the live contents of a slot before using
+ * it, so a stale index can only miss items that arrived since it was taken.
+ * <br>
+ * Only built for handlers whose extraction is fully predictable from their slot
+ * contents, allowing transfers to be planned without simulating them first.
+ */
+public class ItemHandlerIndex {
+
+	private static final Map<IItemHandler, ItemHandlerIndex> CACHE = new WeakHashMap<>();
+	private static final Map<Class<?>, Boolean> PREDICTABLE = new ConcurrentHashMap<>();
+
+	private final IItemHandler inventory;
+	private final int slots;
+	private final List<Group> groups;
+	private final Map<Item, List<Group>> groupsByItem;
+	private final IntList emptySlots;
+
+	private ItemHandlerIndex(IItemHandler inventory) {
+		this.inventory = inventory;
+		slots = inventory.getSlots();
+		groups = new ArrayList<>();
+		groupsByItem = new IdentityHashMap<>();
+		emptySlots = new IntArrayList();
+
+		for (int slot = 0; slot < slots; slot++) {
+			ItemStack stack = inventory.getStackInSlot(slot);
+			if (stack.isEmpty())
+				emptySlots.add(slot);
+			else
+				getOrCreateGroup(stack).slots.add(slot);
+		}
+	}
+
+	/**
+	 * Returns the index of a handler, or null if transfers on it have to go
+	 * through the regular simulated path.
+	 */
+	@Nullable
+	public static ItemHandlerIndex get(IItemHandler inventory) {
+		if (EffectiveSide.get() != LogicalSide.SERVER)
+			return null;
+		if (!isPredictable(inventory.getClass()))
+			return null;
+		ItemHandlerIndex index = CACHE.get(inventory);
+		if (index == null || index.inventory != inventory || index.slots != inventory.getSlots()) {
+			index = new ItemHandlerIndex(inventory);
+			CACHE.put(inventory, index);
+		}
+		return index;
+	}
+
+	public static void tick() {
+		CACHE.clear();
+	}
+
+	private static boolean isPredictable(Class<?> type) {
+		return PREDICTABLE.computeIfAbsent(type, c -> {
+			if (ItemStackHandler.class.isAssignableFrom(c))
+				return inherits(c, ItemStackHandler.class);
+			if (c == InvWrapper.class)
+				return true;
+			return false;
+		});
+	}
+
+	private static boolean inherits(Class<?> type, Class<?> base) {
+		try {
+			Method extract = type.getMethod("extractItem", int.class, int.class, boolean.class);
+			Method stackInSlot = type.getMethod("getStackInSlot", int.class);
+			return extract.getDeclaringClass() == base && stackInSlot.getDeclaringClass() == base;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	public ItemStack extract(ExtractionCountMode mode, int amount, Predicate<ItemStack> test, boolean simulate) {
+		for (Group group : groups) {
+			Plan plan = plan(group, amount, test);
+			if (plan.extracting.isEmpty())
+				continue;
+			if (mode == ExtractionCountMode.EXACTLY && plan.extracting.getCount() < amount)
+				continue;
+			if (!simulate)
+				plan.execute();
+			return plan.extracting;
+		}
+		return ItemStack.EMPTY;
+	}
+
+	public ItemStack extract(Function<ItemStack, Integer> amountFunction, int maxAmount,
+		Predicate<ItemStack> test, boolean simulate) {
+		for (Group group : groups) {
+			ItemStack first = firstPresent(group);
+			if (first.isEmpty())
+				continue;
+			int amount = Math.min(maxAmount, amountFunction.apply(first));
+			if (amount == 0)
+				continue;
+			Plan plan = plan(group, amount, test);
+			if (plan.extracting.isEmpty())
+				continue;
+			if (!simulate)
+				plan.execute();
+			return plan.extracting;
+		}
+		return ItemStack.EMPTY;
+	}
+
+	/**
+	 * Same as {@link ItemHandlerHelper#insertItemStacked}, but only visits slots
+	 * already holding the item and empty ones.
+	 */
+	public ItemStack insert(ItemStack stack, boolean simulate) {
+		if (stack.isEmpty())
+			return stack;
+
+		ItemStack remaining = stack;
+		Group group = getGroup(stack);
+		if (group != null && stack.isStackable()) {
+			for (int i = 0; i < group.slots.size() && !remaining.isEmpty(); i++) {
+				int slot = group.slots.getInt(i);
+				if (ItemHandlerHelper.canItemStacksStackRelaxed(inventory.getStackInSlot(slot), remaining))
+					remaining = inventory.insertItem(slot, remaining, simulate);
+			}
+		}
+
+		for (int i = 0; i < emptySlots.size() && !remaining.isEmpty(); i++) {
+			int slot = emptySlots.getInt(i);
+			if (!inventory.getStackInSlot(slot)
+				.isEmpty())
+				continue;
+			remaining = inventory.insertItem(slot, remaining, simulate);
+			if (simulate || inventory.getStackInSlot(slot)
+				.isEmpty())
+				continue;
+			getOrCreateGroup(stack).slots.add(slot);
+			emptySlots.removeInt(i--);
+		}
+
+		return remaining;
+	}
+
+	private Plan plan(Group group, int amount, Predicate<ItemStack> test) {
+		Plan plan = new Plan();
+		for (int i = 0; i < group.slots.size(); i++) {
+			int slot = group.slots.getInt(i);
+			ItemStack inSlot = inventory.getStackInSlot(slot);
+			if (inSlot.isEmpty() || !ItemHandlerHelper.canItemStacksStack(inSlot, group.reference))
+				continue;
+
+			int count = Math.min(amount - plan.extracting.getCount(),
+				Math.min(inSlot.getCount(), inSlot.getMaxStackSize()));
+			ItemStack stack = ItemHandlerHelper.copyStackWithSize(inSlot, count);
+			if (!test.test(stack))
+				continue;
+
+			if (plan.extracting.isEmpty())
+				plan.extracting = stack;
+			else
+				plan.extracting.grow(count);
+			plan.slots.add(slot);
+			plan.counts.add(count);
+
+			if (plan.extracting.getCount() >= amount || plan.extracting.getCount() >= plan.extracting.getMaxStackSize())
+				break;
+		}
+		return plan;
+	}
+
+	private ItemStack firstPresent(Group group) {
+		for (int i = 0; i < group.slots.size(); i++) {
+			ItemStack inSlot = inventory.getStackInSlot(group.slots.getInt(i));
+			if (!inSlot.isEmpty() && ItemHandlerHelper.canItemStacksStack(inSlot, group.reference))
+				return inSlot;
+		}
+		return ItemStack.EMPTY;
+	}
+
+	@Nullable
+	private Group getGroup(ItemStack stack) {
+		List<Group> candidates = groupsByItem.get(stack.getItem());
+		if (candidates == null)
+			return null;
+		for (Group group : candidates)
+			if (ItemHandlerHelper.canItemStacksStack(group.reference, stack))
+				return group;
+		return null;
+	}
+
+	private Group getOrCreateGroup(ItemStack stack) {
+		Group group = getGroup(stack);
+		if (group != null)
+			return group;
+		group = new Group(ItemHandlerHelper.copyStackWithSize(stack, 1));
+		groups.add(group);
+		groupsByItem.computeIfAbsent(stack.getItem(), $ -> new ArrayList<>())
+			.add(group);
+		return group;
+	}
+
+	private static class Group {
+		private final ItemStack reference;
+		private final IntList slots;
+
+		private Group(ItemStack reference) {
+			this.reference = reference;
+			slots = new IntArrayList();
+		}
+	}
+
+	private class Plan {
+		private ItemStack extracting = ItemStack.EMPTY;
+		private final IntList slots = new IntArrayList();
+		private final IntList counts = new IntArrayList();
+
+		private void execute() {
+			for (int i = 0; i < slots.size(); i++)
+				inventory.extractItem(slots.getInt(i), counts.getInt(i), false);
+		}
+	}
+
+}
@@ -144,6 +144,10 @@ public class ItemHelper {
 
 	public static ItemStack extract(IItemHandler inv, Predicate<ItemStack> test, ExtractionCountMode mode, int amount,
 		boolean simulate) {
+		ItemHandlerIndex index = ItemHandlerIndex.get(inv);
+		if (index != null)
+			return index.extract(mode, amount, test, simulate);
+
 		ItemStack extracting = ItemStack.EMPTY;
 		boolean amountRequired = mode == ExtractionCountMode.EXACTLY;
 		boolean checkHasEnoughItems = amountRequired;
@@ -210,6 +214,10 @@ public class ItemHelper {
 		ItemStack extracting = ItemStack.EMPTY;
 		int maxExtractionCount = AllConfigs.SERVER.logistics.defaultExtractionLimit.get();
 
+		ItemHandlerIndex index = ItemHandlerIndex.get(inv);
+		if (index != null)
+			return index.extract(amountFunction, maxExtractionCount, test, simulate);
+
 		for (int slot = 0; slot < inv.getSlots(); slot++) {
 			if (extracting.isEmpty()) {
 				ItemStack stackInSlot = inv.getStackInSlot(slot);
@@ -242,6 +250,17 @@ public class ItemHelper {
 		return extracting;
 	}
 
+	/**
+	 * Inserts like {@link ItemHandlerHelper#insertItemStacked}, without probing
+	 * every slot of inventories that can be indexed.
+	 */
+	public static ItemStack insertStacked(IItemHandler inv, ItemStack stack, boolean simulate) {
+		ItemHandlerIndex index = ItemHandlerIndex.get(inv);
+		if (index != null)
+			return index.insert(stack, simulate);
+		return ItemHandlerHelper.insertItemStacked(inv, stack, simulate);
+	}
+
 	public static ItemStack findFirstMatch(IItemHandler inv, Predicate<ItemStack> test) {
 		int slot = findFirstMatchingSlotIndex(inv, test);
 		if (slot == -1)
@@ -21,6 +21,7 @@ import net.minecraft.client.renderer.GameRenderer;
 import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.WorldRenderer;
+import net.minecraft.client.renderer.culling.ClippingHelper;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Matrix4f;
@@ -67,8 +68,12 @@ public class RenderHooksMixin {
 		double camY = cameraPos.getY();
 		double camZ = cameraPos.getZ();
 
+		ClippingHelper frustum = new ClippingHelper(p_228426_1_.peek()
+			.getModel(), p_228426_9_);
+		frustum.setCameraPosition(camX, camY, camZ);
+
 		CreateClient.kineticRenderer.get(world)
-			.beginFrame(info, camX, camY, camZ);
+			.beginFrame(info, frustum, camX, camY, camZ);
 		ContraptionRenderDispatcher.beginFrame(info, camX, camY, camZ);
 	}
 
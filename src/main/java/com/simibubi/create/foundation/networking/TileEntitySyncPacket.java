@@ -0,0 +1,102 @@
+package com.simibubi.create.foundation.networking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.simibubi.create.foundation.tileEntity.SyncedTileEntity;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Carries the client data of every changed tile entity in one chunk. Each
+ * entry holds either the full client tag, or only the keys that changed or
+ * disappeared since the previous sync.
+ */
+public class TileEntitySyncPacket extends SimplePacketBase {
+
+	private List<Entry> entries;
+
+	public TileEntitySyncPacket() {
+		entries = new ArrayList<>();
+	}
+
+	public TileEntitySyncPacket(PacketBuffer buffer) {
+		int count = buffer.readVarInt();
+		entries = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			BlockPos pos = buffer.readBlockPos();
+			boolean full = buffer.readBoolean();
+			CompoundNBT changed = buffer.readCompoundTag();
+			int removedCount = buffer.readVarInt();
+			List<String> removed = new ArrayList<>(removedCount);
+			for (int j = 0; j < removedCount; j++)
+				removed.add(buffer.readString());
+			entries.add(new Entry(pos, full, changed, removed));
+		}
+	}
+
+	public void add(BlockPos pos, boolean full, CompoundNBT changed, List<String> removed) {
+		entries.add(new Entry(pos, full, changed, removed));
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public void write(PacketBuffer buffer) {
+		buffer.writeVarInt(entries.size());
+		for (Entry entry : entries) {
+			buffer.writeBlockPos(entry.pos);
+			buffer.writeBoolean(entry.full);
+			buffer.writeCompoundTag(entry.changed);
+			buffer.writeVarInt(entry.removed.size());
+			for (String key : entry.removed)
+				buffer.writeString(key);
+		}
+	}
+
+	public void handle(Supplier<Context> context) {
+		context.get()
+			.enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> this::apply));
+		context.get()
+			.setPacketHandled(true);
+	}
+
+	private void apply() {
+		ClientWorld world = Minecraft.getInstance().world;
+		if (world == null)
+			return;
+
+		for (Entry entry : entries) {
+			if (!world.isBlockPresent(entry.pos))
+				continue;
+			TileEntity tile = world.getTileEntity(entry.pos);
+			if (tile instanceof SyncedTileEntity)
+				((SyncedTileEntity) tile).applySyncDelta(entry.full, entry.changed, entry.removed);
+		}
+	}
+
+	private static class Entry {
+		private BlockPos pos;
+		private boolean full;
+		private CompoundNBT changed;
+		private List<String> removed;
+
+		private Entry(BlockPos pos, boolean full, CompoundNBT changed, List<String> removed) {
+			this.pos = pos;
+			this.full = full;
+			this.changed = changed;
+			this.removed = removed;
+		}
+	}
+
+}
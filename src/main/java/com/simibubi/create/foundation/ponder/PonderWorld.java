@@ -64,6 +64,7 @@ public class PonderWorld extends SchematicWorld {
 
 	int overrideLight;
 	Selection mask;
+	private int ticks;
 
 	public PonderWorld(BlockPos anchor, World original) {
 		super(anchor, original);
@@ -186,7 +187,16 @@ public class PonderWorld extends SchematicWorld {
 		particles.renderParticles(ms, buffer, ari, pt);
 	}
 
+	/**
+	 * Ticks this world has been simulated for. Unlike the game time, this keeps
+	 * counting while the game is paused.
+	 */
+	public int getTicks() {
+		return ticks;
+	}
+
 	public void tick() {
+		ticks++;
 		particles.tick();
 
 		for (Iterator<Entity> iterator = entities.iterator(); iterator.hasNext();) {
@@ -1,7 +1,7 @@
 package com.simibubi.create.foundation.render;
 
-import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
@@ -14,14 +14,13 @@ import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Matrix3f;
 import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.util.math.vector.Quaternion;
 import net.minecraft.util.math.vector.Vector3d;
-import net.minecraft.util.math.vector.Vector3f;
-import net.minecraft.util.math.vector.Vector4f;
 import net.minecraft.world.LightType;
 import net.minecraft.world.World;
 import net.minecraftforge.client.model.pipeline.LightUtil;
@@ -48,11 +47,6 @@ public class SuperByteBuffer extends TemplateBuffer {
 	private boolean shouldColor;
 	private int r, g, b, a;
 
-	public SuperByteBuffer(BufferBuilder buf) {
-		super(buf);
-		transforms = new MatrixStack();
-	}
-
 	public static float getUnInterpolatedU(TextureAtlasSprite sprite, float u) {
 		float f = sprite.getMaxU() - sprite.getMinU();
 		return (u - sprite.getMinU()) / f * 16.0F;
@@ -65,20 +59,63 @@ public class SuperByteBuffer extends TemplateBuffer {
 
 	private static final Long2DoubleMap skyLightCache = new Long2DoubleOpenHashMap();
 	private static final Long2DoubleMap blockLightCache = new Long2DoubleOpenHashMap();
-	Vector4f pos = new Vector4f();
-	Vector3f normal = new Vector3f();
-	Vector4f lightPos = new Vector4f();
+	private static final VertexBatch batch = new VertexBatch();
+	private static final ByteBuffer EMPTY_TEMPLATE = ByteBuffer.allocate(0);
+
+	// Template vertices, decoded once so that renderInto only runs tight loops over plain arrays
+	private final int templateVertexCount;
+	private final float[] posX, posY, posZ;
+	private final float[] normalX, normalY, normalZ;
+	private final float[] staticDiffuse;
+	private final float[] texU, texV;
+	private final int[] colors;
+	private final int[] lights;
+
+	public SuperByteBuffer(BufferBuilder buf) {
+		super(buf);
+		transforms = new MatrixStack();
 
-	public void renderInto(MatrixStack input, IVertexBuilder builder) {
 		ByteBuffer buffer = template;
-		if (((Buffer) buffer).limit() == 0)
+		int count = vertexCount(buffer);
+		templateVertexCount = count;
+		posX = new float[count];
+		posY = new float[count];
+		posZ = new float[count];
+		normalX = new float[count];
+		normalY = new float[count];
+		normalZ = new float[count];
+		staticDiffuse = new float[count];
+		texU = new float[count];
+		texV = new float[count];
+		colors = new int[count];
+		lights = new int[count];
+
+		for (int i = 0; i < count; i++) {
+			posX[i] = getX(buffer, i);
+			posY[i] = getY(buffer, i);
+			posZ[i] = getZ(buffer, i);
+			normalX[i] = getNX(buffer, i) / 127f;
+			normalY[i] = getNY(buffer, i) / 127f;
+			normalZ[i] = getNZ(buffer, i) / 127f;
+			staticDiffuse[i] = LightUtil.diffuseLight(normalX[i], normalY[i], normalZ[i]);
+			texU[i] = getU(buffer, i);
+			texV[i] = getV(buffer, i);
+			colors[i] = packColor(Byte.toUnsignedInt(getR(buffer, i)), Byte.toUnsignedInt(getG(buffer, i)),
+				Byte.toUnsignedInt(getB(buffer, i)), Byte.toUnsignedInt(getA(buffer, i)));
+			lights[i] = getLight(buffer, i);
+		}
+
+		// everything needed is in the arrays now, don't keep the vertex data twice
+		template = EMPTY_TEMPLATE;
+	}
+
+	public void renderInto(MatrixStack input, IVertexBuilder builder) {
+		int count = templateVertexCount;
+		if (count == 0)
 			return;
-		((Buffer) buffer).rewind();
 
 		Matrix3f normalMat = transforms.peek()
-			.getNormal()
-			.copy();
-		// normalMat.multiply(transforms.peek().getNormal());
+			.getNormal();
 
 		Matrix4f modelMat = input.peek()
 			.getModel()
@@ -88,79 +125,24 @@ public class SuperByteBuffer extends TemplateBuffer {
 			.getModel();
 		modelMat.multiply(localTransforms);
 
-		if (shouldLight && lightTransform != null) {
-			skyLightCache.clear();
-			blockLightCache.clear();
-		}
+		VertexBatch out = batch;
+		out.ensureCapacity(count);
 
-		float f = .5f;
-		int vertexCount = vertexCount(buffer);
-		for (int i = 0; i < vertexCount; i++) {
-			float x = getX(buffer, i);
-			float y = getY(buffer, i);
-			float z = getZ(buffer, i);
-			byte r = getR(buffer, i);
-			byte g = getG(buffer, i);
-			byte b = getB(buffer, i);
-			byte a = getA(buffer, i);
-			float normalX = getNX(buffer, i) / 127f;
-			float normalY = getNY(buffer, i) / 127f;
-			float normalZ = getNZ(buffer, i) / 127f;
-
-			float staticDiffuse = LightUtil.diffuseLight(normalX, normalY, normalZ);
-			normal.set(normalX, normalY, normalZ);
-			normal.transform(normalMat);
-			float nx = normal.getX();
-			float ny = normal.getY();
-			float nz = normal.getZ();
-			float instanceDiffuse = LightUtil.diffuseLight(nx, ny, nz);
-
-			pos.set(x, y, z, 1F);
-			pos.transform(modelMat);
-			builder.vertex(pos.getX(), pos.getY(), pos.getZ());
-
-			// builder.color((byte) Math.max(0, nx * 255), (byte) Math.max(0, ny * 255), (byte) Math.max(0, nz * 255), a);
-			if (shouldColor) {
-				// float lum = (r < 0 ? 255 + r : r) / 256f;
-				int colorR = Math.min(255, (int) (((float) this.r) * instanceDiffuse));
-				int colorG = Math.min(255, (int) (((float) this.g) * instanceDiffuse));
-				int colorB = Math.min(255, (int) (((float) this.b) * instanceDiffuse));
-				builder.color(colorR, colorG, colorB, this.a);
-			} else {
-				float diffuseMult = instanceDiffuse / staticDiffuse;
-				int colorR = Math.min(255, (int) (((float) Byte.toUnsignedInt(r)) * diffuseMult));
-				int colorG = Math.min(255, (int) (((float) Byte.toUnsignedInt(g)) * diffuseMult));
-				int colorB = Math.min(255, (int) (((float) Byte.toUnsignedInt(b)) * diffuseMult));
-				builder.color(colorR, colorG, colorB, a);
-			}
+		out.transformPositions(modelMat, posX, posY, posZ, count);
+		out.transformNormals(normalMat, normalX, normalY, normalZ, count);
+		computeColors(out, count);
 
-			float u = getU(buffer, i);
-			float v = getV(buffer, i);
-
-			if (spriteShiftFunc != null) {
-				spriteShiftFunc.shift(builder, u, v);
-			} else
-				builder.texture(u, v);
-
-			if (shouldLight) {
-				int light = packedLightCoords;
-				if (lightTransform != null) {
-					lightPos.set(((x - f) * 15 / 16f) + f, (y - f) * 15 / 16f + f, (z - f) * 15 / 16f + f, 1F);
-					lightPos.transform(localTransforms);
-					lightPos.transform(lightTransform);
-
-					light = getLight(Minecraft.getInstance().world, lightPos);
-					if (otherBlockLight >= 0) {
-						light = ContraptionRenderDispatcher.getMaxBlockLight(light, otherBlockLight);
-					}
-				}
-				builder.light(light);
-			} else
-				builder.light(getLight(buffer, i));
-
-			builder.normal(nx, ny, nz)
-				.endVertex();
-		}
+		System.arraycopy(texU, 0, out.u, 0, count);
+		System.arraycopy(texV, 0, out.v, 0, count);
+		if (spriteShiftFunc != null)
+			spriteShiftFunc.shift(out.u, out.v, count);
+
+		computeLights(out, localTransforms, count);
+
+		if (builder instanceof BufferBuilder && ((BufferBuilder) builder).getVertexFormat() == DefaultVertexFormats.BLOCK)
+			out.writeInto((BufferBuilder) builder, count);
+		else
+			out.writeInto(builder, count);
 
 		transforms = new MatrixStack();
 
@@ -170,6 +152,72 @@ public class SuperByteBuffer extends TemplateBuffer {
 		otherBlockLight = -1;
 	}
 
+	private void computeColors(VertexBatch out, int count) {
+		float[] diffuse = out.diffuse;
+		for (int i = 0; i < count; i++)
+			diffuse[i] = LightUtil.diffuseLight(out.nx[i], out.ny[i], out.nz[i]);
+
+		int[] color = out.color;
+		if (shouldColor) {
+			for (int i = 0; i < count; i++) {
+				int colorR = Math.min(255, (int) (((float) this.r) * diffuse[i]));
+				int colorG = Math.min(255, (int) (((float) this.g) * diffuse[i]));
+				int colorB = Math.min(255, (int) (((float) this.b) * diffuse[i]));
+				color[i] = packColor(colorR, colorG, colorB, this.a);
+			}
+			return;
+		}
+
+		for (int i = 0; i < count; i++) {
+			float diffuseMult = diffuse[i] / staticDiffuse[i];
+			int c = colors[i];
+			int colorR = Math.min(255, (int) (((float) (c & 0xFF)) * diffuseMult));
+			int colorG = Math.min(255, (int) (((float) ((c >>> 8) & 0xFF)) * diffuseMult));
+			int colorB = Math.min(255, (int) (((float) ((c >>> 16) & 0xFF)) * diffuseMult));
+			color[i] = packColor(colorR, colorG, colorB, c >>> 24);
+		}
+	}
+
+	private void computeLights(VertexBatch out, Matrix4f localTransforms, int count) {
+		int[] light = out.light;
+		if (!shouldLight) {
+			System.arraycopy(lights, 0, light, 0, count);
+			return;
+		}
+		if (lightTransform == null) {
+			Arrays.fill(light, 0, count, packedLightCoords);
+			return;
+		}
+
+		skyLightCache.clear();
+		blockLightCache.clear();
+
+		// sample light slightly inside the model, so faces on the block boundary do not pick up their neighbours
+		float f = .5f;
+		float[] lx = out.lightX, ly = out.lightY, lz = out.lightZ;
+		for (int i = 0; i < count; i++) {
+			lx[i] = (posX[i] - f) * 15 / 16f + f;
+			ly[i] = (posY[i] - f) * 15 / 16f + f;
+			lz[i] = (posZ[i] - f) * 15 / 16f + f;
+		}
+
+		Matrix4f lightMat = lightTransform.copy();
+		lightMat.multiply(localTransforms);
+		out.transform(lightMat, lx, ly, lz, lx, ly, lz, count);
+
+		World world = Minecraft.getInstance().world;
+		for (int i = 0; i < count; i++) {
+			int packed = getLight(world, lx[i], ly[i], lz[i]);
+			if (otherBlockLight >= 0)
+				packed = ContraptionRenderDispatcher.getMaxBlockLight(packed, otherBlockLight);
+			light[i] = packed;
+		}
+	}
+
+	private static int packColor(int r, int g, int b, int a) {
+		return r | g << 8 | b << 16 | a << 24;
+	}
+
 	public MatrixStacker matrixStacker() {
 		return MatrixStacker.of(transforms);
 	}
@@ -223,37 +271,44 @@ public class SuperByteBuffer extends TemplateBuffer {
 	}
 
 	public SuperByteBuffer shiftUV(SpriteShiftEntry entry) {
-		this.spriteShiftFunc = (builder, u, v) -> {
-			float targetU = entry.getTarget()
-				.getInterpolatedU((getUnInterpolatedU(entry.getOriginal(), u)));
-			float targetV = entry.getTarget()
-				.getInterpolatedV((getUnInterpolatedV(entry.getOriginal(), v)));
-			builder.texture(targetU, targetV);
+		this.spriteShiftFunc = (u, v, count) -> {
+			TextureAtlasSprite original = entry.getOriginal();
+			TextureAtlasSprite target = entry.getTarget();
+			for (int i = 0; i < count; i++) {
+				u[i] = target.getInterpolatedU(getUnInterpolatedU(original, u[i]));
+				v[i] = target.getInterpolatedV(getUnInterpolatedV(original, v[i]));
+			}
 		};
 		return this;
 	}
 
 	public SuperByteBuffer shiftUVScrolling(SpriteShiftEntry entry, float scrollV) {
-		this.spriteShiftFunc = (builder, u, v) -> {
-			float targetU = u - entry.getOriginal()
-				.getMinU() + entry.getTarget()
+		this.spriteShiftFunc = (u, v, count) -> {
+			float shiftU = entry.getTarget()
+				.getMinU()
+				- entry.getOriginal()
 					.getMinU();
-			float targetV = v - entry.getOriginal()
-				.getMinV() + entry.getTarget()
+			float shiftV = entry.getTarget()
+				.getMinV()
+				- entry.getOriginal()
 					.getMinV()
 				+ scrollV;
-			builder.texture(targetU, targetV);
+			for (int i = 0; i < count; i++) {
+				u[i] += shiftU;
+				v[i] += shiftV;
+			}
 		};
 		return this;
 	}
 
 	public SuperByteBuffer shiftUVtoSheet(SpriteShiftEntry entry, float uTarget, float vTarget, int sheetSize) {
-		this.spriteShiftFunc = (builder, u, v) -> {
-			float targetU = entry.getTarget()
-				.getInterpolatedU((getUnInterpolatedU(entry.getOriginal(), u) / sheetSize) + uTarget * 16);
-			float targetV = entry.getTarget()
-				.getInterpolatedV((getUnInterpolatedV(entry.getOriginal(), v) / sheetSize) + vTarget * 16);
-			builder.texture(targetU, targetV);
+		this.spriteShiftFunc = (u, v, count) -> {
+			TextureAtlasSprite original = entry.getOriginal();
+			TextureAtlasSprite target = entry.getTarget();
+			for (int i = 0; i < count; i++) {
+				u[i] = target.getInterpolatedU((getUnInterpolatedU(original, u[i]) / sheetSize) + uTarget * 16);
+				v[i] = target.getInterpolatedV((getUnInterpolatedV(original, v[i]) / sheetSize) + vTarget * 16);
+			}
 		};
 		return this;
 	}
@@ -287,22 +342,26 @@ public class SuperByteBuffer extends TemplateBuffer {
 		return this;
 	}
 
-	private static int getLight(World world, Vector4f lightPos) {
+	private static int getLight(World world, float x, float y, float z) {
 		BlockPos.Mutable pos = new BlockPos.Mutable();
 		double sky = 0, block = 0;
-		pos.setPos(lightPos.getX() + 0, lightPos.getY() + 0, lightPos.getZ() + 0);
+		pos.setPos(x, y, z);
 		sky += skyLightCache.computeIfAbsent(pos.toLong(), $ -> world.getLightLevel(LightType.SKY, pos));
 		block += blockLightCache.computeIfAbsent(pos.toLong(), $ -> world.getLightLevel(LightType.BLOCK, pos));
 		return ((int) sky) << 20 | ((int) block) << 4;
 	}
 
+	@Override
 	public boolean isEmpty() {
-		return ((Buffer) template).limit() == 0;
+		return templateVertexCount == 0;
 	}
 
+	/**
+	 * Remaps the texture coordinates of a whole batch of vertices in place.
+	 */
 	@FunctionalInterface
 	public interface SpriteShiftFunc {
-		void shift(IVertexBuilder builder, float u, float v);
+		void shift(float[] u, float[] v, int count);
 	}
 
 }
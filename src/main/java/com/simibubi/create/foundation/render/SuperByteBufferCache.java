@@ -81,6 +81,11 @@ public class SuperByteBufferCache {
 		}
 	}
 
+	public <T> SuperByteBuffer getIfPresent(Compartment<T> compartment, T key) {
+		return this.cache.get(compartment)
+			.getIfPresent(key);
+	}
+
 	public <T> void invalidate(Compartment<T> compartment, T key) {
 		Cache<Object, SuperByteBuffer> compartmentCache = this.cache.get(compartment);
 		compartmentCache.invalidate(key);
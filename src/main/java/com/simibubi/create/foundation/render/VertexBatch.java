@@ -0,0 +1,192 @@
+package com.simibubi.create.foundation.render;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.mojang.blaze3d.vertex.IVertexBuilder;
+
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.vector.Matrix3f;
+import net.minecraft.util.math.vector.Matrix4f;
+import net.minecraft.util.math.vector.Vector3f;
+import net.minecraft.util.math.vector.Vector4f;
+
+/**
+ * Scratch space for transforming the vertices of a {@link SuperByteBuffer}.
+ * Every attribute is kept in its own array, so transforms run as simple loops
+ * over primitive arrays that the JIT can unroll and vectorize. Only used on the
+ * render thread.
+ */
+class VertexBatch {
+
+	private static final int BLOCK_SIZE = DefaultVertexFormats.BLOCK.getSize();
+
+	float[] x = new float[0], y = new float[0], z = new float[0];
+	float[] nx = new float[0], ny = new float[0], nz = new float[0];
+	float[] diffuse = new float[0];
+	float[] u = new float[0], v = new float[0];
+	float[] lightX = new float[0], lightY = new float[0], lightZ = new float[0];
+	int[] color = new int[0];
+	int[] light = new int[0];
+
+	private ByteBuffer bytes = ByteBuffer.allocateDirect(0);
+
+	// matrix columns, read back through the vector types as the matrix fields are private
+	private final float[] columns = new float[12];
+	private final Vector4f column4 = new Vector4f();
+	private final Vector3f column3 = new Vector3f();
+
+	void ensureCapacity(int count) {
+		if (x.length >= count)
+			return;
+		int capacity = Math.max(count, x.length * 2);
+		x = new float[capacity];
+		y = new float[capacity];
+		z = new float[capacity];
+		nx = new float[capacity];
+		ny = new float[capacity];
+		nz = new float[capacity];
+		diffuse = new float[capacity];
+		u = new float[capacity];
+		v = new float[capacity];
+		lightX = new float[capacity];
+		lightY = new float[capacity];
+		lightZ = new float[capacity];
+		color = new int[capacity];
+		light = new int[capacity];
+	}
+
+	void transformPositions(Matrix4f mat, float[] inX, float[] inY, float[] inZ, int count) {
+		transform(mat, inX, inY, inZ, x, y, z, count);
+	}
+
+	/**
+	 * Transforms points as {@link Vector4f#transform} would with w = 1, dropping
+	 * the resulting w. Input and output arrays may be the same.
+	 */
+	void transform(Matrix4f mat, float[] inX, float[] inY, float[] inZ, float[] outX, float[] outY, float[] outZ,
+		int count) {
+		float[] c = readColumns(mat);
+		float m00 = c[0], m10 = c[1], m20 = c[2];
+		float m01 = c[3], m11 = c[4], m21 = c[5];
+		float m02 = c[6], m12 = c[7], m22 = c[8];
+		float m03 = c[9], m13 = c[10], m23 = c[11];
+
+		for (int i = 0; i < count; i++) {
+			float px = inX[i];
+			float py = inY[i];
+			float pz = inZ[i];
+			outX[i] = m00 * px + m01 * py + m02 * pz + m03;
+			outY[i] = m10 * px + m11 * py + m12 * pz + m13;
+			outZ[i] = m20 * px + m21 * py + m22 * pz + m23;
+		}
+	}
+
+	void transformNormals(Matrix3f mat, float[] inX, float[] inY, float[] inZ, int count) {
+		float[] c = readColumns(mat);
+		float m00 = c[0], m10 = c[1], m20 = c[2];
+		float m01 = c[3], m11 = c[4], m21 = c[5];
+		float m02 = c[6], m12 = c[7], m22 = c[8];
+
+		float[] outX = nx, outY = ny, outZ = nz;
+		for (int i = 0; i < count; i++) {
+			float px = inX[i];
+			float py = inY[i];
+			float pz = inZ[i];
+			outX[i] = m00 * px + m01 * py + m02 * pz;
+			outY[i] = m10 * px + m11 * py + m12 * pz;
+			outZ[i] = m20 * px + m21 * py + m22 * pz;
+		}
+	}
+
+	/**
+	 * Appends the batch to a builder in the block format in one bulk copy,
+	 * instead of going through the per-element vertex consumer calls.
+	 */
+	void writeInto(BufferBuilder builder, int count) {
+		int size = count * BLOCK_SIZE;
+		if (bytes.capacity() < size)
+			bytes = ByteBuffer.allocateDirect(Math.max(size, bytes.capacity() * 2))
+				.order(ByteOrder.nativeOrder());
+		ByteBuffer out = bytes;
+
+		for (int i = 0; i < count; i++) {
+			int base = i * BLOCK_SIZE;
+			int c = color[i];
+			int l = light[i];
+			out.putFloat(base, x[i]);
+			out.putFloat(base + 4, y[i]);
+			out.putFloat(base + 8, z[i]);
+			out.put(base + 12, (byte) c);
+			out.put(base + 13, (byte) (c >>> 8));
+			out.put(base + 14, (byte) (c >>> 16));
+			out.put(base + 15, (byte) (c >>> 24));
+			out.putFloat(base + 16, u[i]);
+			out.putFloat(base + 20, v[i]);
+			out.putShort(base + 24, (short) (l & 0xFFFF));
+			out.putShort(base + 26, (short) (l >>> 16));
+			out.put(base + 28, normalByte(nx[i]));
+			out.put(base + 29, normalByte(ny[i]));
+			out.put(base + 30, normalByte(nz[i]));
+			out.put(base + 31, (byte) 0);
+		}
+
+		((Buffer) out).clear();
+		((Buffer) out).limit(size);
+		builder.putBulkData(out);
+	}
+
+	/**
+	 * Fallback for builders in other formats or wrapping other builders.
+	 */
+	void writeInto(IVertexBuilder builder, int count) {
+		for (int i = 0; i < count; i++) {
+			int c = color[i];
+			builder.vertex(x[i], y[i], z[i])
+				.color(c & 0xFF, (c >>> 8) & 0xFF, (c >>> 16) & 0xFF, c >>> 24)
+				.texture(u[i], v[i])
+				.light(light[i])
+				.normal(nx[i], ny[i], nz[i])
+				.endVertex();
+		}
+	}
+
+	private static byte normalByte(float value) {
+		return (byte) ((int) (MathHelper.clamp(value, -1, 1) * 127) & 0xFF);
+	}
+
+	private float[] readColumns(Matrix4f mat) {
+		readColumn(mat, 0, 1, 0, 0, 0);
+		readColumn(mat, 1, 0, 1, 0, 0);
+		readColumn(mat, 2, 0, 0, 1, 0);
+		readColumn(mat, 3, 0, 0, 0, 1);
+		return columns;
+	}
+
+	private void readColumn(Matrix4f mat, int column, float bx, float by, float bz, float bw) {
+		column4.set(bx, by, bz, bw);
+		column4.transform(mat);
+		columns[column * 3] = column4.getX();
+		columns[column * 3 + 1] = column4.getY();
+		columns[column * 3 + 2] = column4.getZ();
+	}
+
+	private float[] readColumns(Matrix3f mat) {
+		readColumn(mat, 0, 1, 0, 0);
+		readColumn(mat, 1, 0, 1, 0);
+		readColumn(mat, 2, 0, 0, 1);
+		return columns;
+	}
+
+	private void readColumn(Matrix3f mat, int column, float bx, float by, float bz) {
+		column3.set(bx, by, bz);
+		column3.transform(mat);
+		columns[column * 3] = column3.getX();
+		columns[column * 3 + 1] = column3.getY();
+		columns[column * 3 + 2] = column3.getZ();
+	}
+
+}
@@ -4,11 +4,15 @@ import java.nio.ByteBuffer;
 import java.util.function.Consumer;
 
 import org.lwjgl.opengl.GL20;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL44;
 
 import com.simibubi.create.foundation.render.backend.Backend;
 
 public class GlBuffer extends GlObject {
 
+    private static final int PERSISTENT_FLAGS = GL30.GL_MAP_WRITE_BIT | GL44.GL_MAP_PERSISTENT_BIT | GL44.GL_MAP_COHERENT_BIT;
+
     protected final int bufferType;
 
     public GlBuffer(int bufferType) {
@@ -42,6 +46,16 @@ public class GlBuffer extends GlObject {
         Backend.compat.mapBuffer(bufferType, offset, length, upload);
     }
 
+    /**
+     * Allocates immutable storage for this buffer and maps it for as long as the buffer lives.
+     * Writes to the returned buffer are visible to the GPU without unmapping.
+     * Requires {@link com.simibubi.create.foundation.render.backend.gl.versioned.GlCompat#bufferStorageSupported()}.
+     */
+    public ByteBuffer mapPersistent(int length) {
+        Backend.compat.bufferStorage(bufferType, length, PERSISTENT_FLAGS);
+        return GL30.glMapBufferRange(bufferType, 0, length, PERSISTENT_FLAGS);
+    }
+
     protected void deleteInternal(int handle) {
         GL20.glDeleteBuffers(handle);
     }
@@ -32,7 +32,14 @@ public class VertexFormat {
     }
 
     public void vertexAttribPointers(int index) {
-        int offset = 0;
+        vertexAttribPointers(index, 0);
+    }
+
+    /**
+     * @param baseOffset where in the bound buffer the first vertex starts, in bytes
+     */
+    public void vertexAttribPointers(int index, int baseOffset) {
+        int offset = baseOffset;
         for (IVertexAttrib attrib : this.allAttributes) {
             IAttribSpec spec = attrib.attribSpec();
             spec.vertexAttribPointer(stride, index, offset);
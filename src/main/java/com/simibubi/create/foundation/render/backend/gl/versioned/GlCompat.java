@@ -19,6 +19,7 @@ import org.lwjgl.system.MemoryUtil;
  */
 public class GlCompat {
     public final MapBuffer mapBuffer;
+    public final BufferStorage bufferStorage;
 
     public final VertexArrayObject vertexArrayObject;
     public final InstancedArrays instancedArrays;
@@ -28,6 +29,7 @@ public class GlCompat {
 
     public GlCompat(GLCapabilities caps) {
         mapBuffer = getLatest(MapBuffer.class, caps);
+        bufferStorage = getLatest(BufferStorage.class, caps);
 
         vertexArrayObject = getLatest(VertexArrayObject.class, caps);
         instancedArrays = getLatest(InstancedArrays.class, caps);
@@ -40,6 +42,10 @@ public class GlCompat {
         mapBuffer.mapBuffer(target, offset, length, upload);
     }
 
+    public void bufferStorage(int target, long size, int flags) {
+        bufferStorage.bufferStorage(target, size, flags);
+    }
+
     public void vertexAttribDivisor(int index, int divisor) {
         instancedArrays.vertexAttribDivisor(index, divisor);
     }
@@ -64,6 +70,10 @@ public class GlCompat {
         return vertexArrayObject != VertexArrayObject.UNSUPPORTED;
     }
 
+    public boolean bufferStorageSupported() {
+        return bufferStorage != BufferStorage.UNSUPPORTED;
+    }
+
     public boolean instancedArraysSupported() {
         return instancedArrays != InstancedArrays.UNSUPPORTED;
     }
@@ -6,8 +6,9 @@ public abstract class InstanceData {
 
     protected final InstancedModel<?> owner;
 
-    boolean dirty;
+    int index = -1;
     boolean removed;
+    boolean hidden;
 
     protected InstanceData(InstancedModel<?> owner) {
         this.owner = owner;
@@ -16,8 +17,17 @@ public abstract class InstanceData {
     public abstract void write(ByteBuffer buf);
 
     public void markDirty() {
-        owner.anyToUpdate = true;
-        dirty = true;
+        owner.markDirty(this);
+    }
+
+    /**
+     * Hidden instances stay allocated, but are neither uploaded nor drawn.
+     */
+    public void setHidden(boolean hidden) {
+        if (this.hidden == hidden)
+            return;
+        this.hidden = hidden;
+        owner.anyVisibilityChanged = true;
     }
 
     public void delete() {
@@ -0,0 +1,61 @@
+package com.simibubi.create.foundation.render.backend.instancing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.SectionPos;
+
+/**
+ * The instances of one chunk section. They are culled as a whole, so visibility
+ * only has to be evaluated once per section each frame.
+ */
+public class InstanceSection {
+
+    // instance models may stick out of their block a bit
+    private static final double MARGIN = 2;
+    private static final int MIN_PRUNE_SIZE = 16;
+
+    final List<TileEntityInstance<?>> instances = new ArrayList<>();
+    final List<InstanceData> data = new ArrayList<>();
+    final AxisAlignedBB bounds;
+    boolean visible = true;
+    // removed data is dropped whenever the list has doubled since the last prune
+    private int pruneSize = MIN_PRUNE_SIZE;
+
+    InstanceSection(long key) {
+        double x = SectionPos.toWorld(SectionPos.extractX(key));
+        double y = SectionPos.toWorld(SectionPos.extractY(key));
+        double z = SectionPos.toWorld(SectionPos.extractZ(key));
+        bounds = new AxisAlignedBB(x, y, z, x + 16, y + 16, z + 16).grow(MARGIN);
+    }
+
+    void add(InstanceData instanceData) {
+        if (data.size() >= pruneSize)
+            prune();
+        data.add(instanceData);
+        instanceData.setHidden(!visible);
+    }
+
+    void setVisible(boolean visible) {
+        if (this.visible == visible)
+            return;
+        this.visible = visible;
+        prune();
+        for (InstanceData instanceData : data)
+            instanceData.setHidden(!visible);
+    }
+
+    void prune() {
+        data.removeIf(d -> d.removed);
+        pruneSize = Math.max(MIN_PRUNE_SIZE, data.size() * 2);
+    }
+
+    double distanceSq(double x, double y, double z) {
+        double dX = Math.max(0, Math.max(bounds.minX - x, x - bounds.maxX));
+        double dY = Math.max(0, Math.max(bounds.minY - y, y - bounds.maxY));
+        double dZ = Math.max(0, Math.max(bounds.minZ - z, z - bounds.maxZ));
+        return dX * dX + dY * dY + dZ * dZ;
+    }
+
+}
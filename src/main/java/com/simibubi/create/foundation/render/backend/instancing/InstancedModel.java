@@ -8,6 +8,7 @@ import java.util.BitSet;
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL15;
 import org.lwjgl.opengl.GL20;
+import org.lwjgl.opengl.GL32;
 
 import com.simibubi.create.foundation.render.backend.Backend;
 import com.simibubi.create.foundation.render.backend.BufferedModel;
@@ -21,6 +22,10 @@ import net.minecraft.client.renderer.BufferBuilder;
 public abstract class InstancedModel<D extends InstanceData> extends BufferedModel {
     public static final VertexFormat FORMAT = VertexFormat.builder().addAttributes(ModelAttributes.class).build();
 
+    private static final int MERGE_DISTANCE = 8;
+    // Regions of the persistent buffer, the GPU may still be reading the ones drawn in previous frames
+    private static final int REGIONS = 3;
+
     public final InstancedTileRenderer<?> renderer;
 
     protected GlVertexArray vao;
@@ -28,14 +33,27 @@ public abstract class InstancedModel<D extends InstanceData> extends BufferedMod
     protected int glBufferSize = -1;
     protected int glInstanceCount = 0;
 
+    // Only set when the instance buffer is persistently mapped, see realloc()
+    protected ByteBuffer persistentBuffer;
+    private int region;
+    private final long[] fences = new long[REGIONS];
+    private final BitSet[] regionDirty = new BitSet[REGIONS];
+
     protected final ArrayList<D> data = new ArrayList<>();
+    protected final BitSet dirtyInstances = new BitSet();
 
     boolean anyToRemove;
     boolean anyToUpdate;
+    boolean anyVisibilityChanged;
+
+    // Instances are kept partitioned, only the first visibleCount of them are visible
+    protected int visibleCount;
 
     public InstancedModel(InstancedTileRenderer<?> renderer, BufferBuilder buf) {
         super(buf);
         this.renderer = renderer;
+        for (int i = 0; i < REGIONS; i++)
+            regionDirty[i] = new BitSet();
     }
 
     @Override
@@ -63,27 +81,45 @@ public abstract class InstancedModel<D extends InstanceData> extends BufferedMod
     protected void deleteInternal() {
         super.deleteInternal();
 
+        deleteFences();
         instanceVBO.delete();
         vao.delete();
+        persistentBuffer = null;
     }
 
     public synchronized D createInstance() {
         D instanceData = newInstance();
-        instanceData.dirty = true;
-        anyToUpdate = true;
+        instanceData.index = data.size();
         data.add(instanceData);
+        markDirty(instanceData);
+        // keep the partition intact, the new instance may be hidden right away
+        anyVisibilityChanged = true;
+        renderer.onInstanceCreated(instanceData);
 
         return instanceData;
     }
 
+    void markDirty(InstanceData instanceData) {
+        if (instanceData.index < 0)
+            return;
+        dirtyInstances.set(instanceData.index);
+        anyToUpdate = true;
+    }
+
     protected abstract D newInstance();
 
     protected void doRender() {
         vao.with(vao -> {
             renderSetup();
 
-            if (glInstanceCount > 0)
+            if (glInstanceCount > 0) {
                 Backend.compat.drawArraysInstanced(GL11.GL_QUADS, 0, vertexCount, glInstanceCount);
+
+                if (persistentBuffer != null) {
+                    deleteFence(region);
+                    fences[region] = GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+                }
+            }
         });
     }
 
@@ -92,88 +128,92 @@ public abstract class InstancedModel<D extends InstanceData> extends BufferedMod
             removeDeletedInstances();
         }
 
-        instanceVBO.bind();
-        if (!realloc()) {
-
-            if (anyToRemove) {
-                clearBufferTail();
-            }
-
-            if (anyToUpdate) {
-                updateBuffer();
-            }
+        if (anyToRemove || anyVisibilityChanged) {
+            partitionHiddenInstances();
+        }
 
+        instanceVBO.bind();
+        if (!realloc() && anyToUpdate) {
+            updateBuffer();
         }
 
-        glInstanceCount = data.size();
+        glInstanceCount = visibleCount;
         informAttribDivisors();
         instanceVBO.unbind();
 
         this.anyToRemove = false;
         this.anyToUpdate = false;
+        this.anyVisibilityChanged = false;
     }
 
     private void informAttribDivisors() {
         int staticAttributes = getModelFormat().getShaderAttributeCount();
-        getInstanceFormat().vertexAttribPointers(staticAttributes);
+        getInstanceFormat().vertexAttribPointers(staticAttributes, region * glBufferSize);
 
         for (int i = 0; i < getInstanceFormat().getShaderAttributeCount(); i++) {
             Backend.compat.vertexAttribDivisor(i + staticAttributes, 1);
         }
     }
 
-    private void clearBufferTail() {
-        int size = data.size();
-        final int offset = size * getInstanceFormat().getStride();
-        final int length = glBufferSize - offset;
-        if (length > 0) {
-            instanceVBO.map(offset, length, buffer -> {
-                buffer.put(new byte[length]);
-            });
-        }
-    }
-
+    /**
+     * Uploads every run of dirty visible instances. Runs separated by only a few clean
+     * instances are merged so we don't map the buffer once per instance. Dirty hidden
+     * instances keep their flag until they are shown again.
+     * <br>
+     * A persistent buffer is written one region ahead of the one last drawn. Each
+     * region collects the changes it missed while it was not being written.
+     */
     private void updateBuffer() {
-        final int size = data.size();
-
-        if (size <= 0) return;
-
+        final int size = visibleCount;
         final int stride = getInstanceFormat().getStride();
-        final BitSet dirtySet = getDirtyBitSet();
-
-        if (dirtySet.isEmpty()) return;
 
-        final int firstDirty = dirtySet.nextSetBit(0);
-        final int lastDirty = dirtySet.previousSetBit(size);
+        if (persistentBuffer != null) {
+            for (BitSet dirty : regionDirty)
+                dirty.or(dirtyInstances);
+            dirtyInstances.clear();
 
-        final int offset = firstDirty * stride;
-        final int length = (1 + lastDirty - firstDirty) * stride;
-
-        if (length > 0) {
-            instanceVBO.map(offset, length, buffer -> {
-                dirtySet.stream().forEach(i -> {
-                    final D d = data.get(i);
+            int next = (region + 1) % REGIONS;
+            if (!pollFence(next)) {
+                // the GPU is behind by every region, write fresh storage rather than stall the frame
+                allocatePersistent();
+                return;
+            }
 
-                    buffer.position(i * stride - offset);
-                    d.write(buffer);
-                });
-            });
+            BitSet dirty = regionDirty[next];
+            int base = next * glBufferSize;
+            for (int i = dirty.nextSetBit(0); i >= 0 && i < size; i = dirty.nextSetBit(i + 1)) {
+                persistentBuffer.position(base + i * stride);
+                data.get(i).write(persistentBuffer);
+            }
+            persistentBuffer.rewind();
+            dirty.clear(0, size);
+            region = next;
+            return;
         }
-    }
 
-    private BitSet getDirtyBitSet() {
-        final int size = data.size();
-        final BitSet dirtySet = new BitSet(size);
+        int start = dirtyInstances.nextSetBit(0);
+        while (start >= 0 && start < size) {
+            int end = Math.min(dirtyInstances.nextClearBit(start), size);
+            int next = dirtyInstances.nextSetBit(end);
+            while (next >= 0 && next < size && next - end <= MERGE_DISTANCE) {
+                end = Math.min(dirtyInstances.nextClearBit(next), size);
+                next = dirtyInstances.nextSetBit(end);
+            }
 
-        for (int i = 0; i < size; i++) {
-            D element = data.get(i);
-            if (element.dirty) {
-                dirtySet.set(i);
+            final int from = start;
+            final int to = end;
+            instanceVBO.map(from * stride, (to - from) * stride, buffer -> {
+                int base = buffer.position();
+                for (int i = from; i < to; i++) {
+                    buffer.position(base + (i - from) * stride);
+                    data.get(i).write(buffer);
+                }
+            });
 
-                element.dirty = false;
-            }
+            start = next;
         }
-        return dirtySet;
+
+        dirtyInstances.clear(0, size);
     }
 
     private boolean realloc() {
@@ -181,53 +221,141 @@ public abstract class InstancedModel<D extends InstanceData> extends BufferedMod
         int stride = getInstanceFormat().getStride();
         int requiredSize = size * stride;
         if (requiredSize > glBufferSize) {
-            glBufferSize = requiredSize + stride * 16;
-            GL15.glBufferData(instanceVBO.getBufferType(), glBufferSize, GL15.GL_STATIC_DRAW);
+            glBufferSize = Math.max(requiredSize + stride * 16, glBufferSize * 3 / 2);
 
-            instanceVBO.map(glBufferSize, buffer -> {
-                for (D datum : data) {
-                    datum.write(buffer);
-                }
-            });
+            if (Backend.compat.bufferStorageSupported()) {
+                allocatePersistent();
+            } else {
+                GL15.glBufferData(instanceVBO.getBufferType(), glBufferSize, GL15.GL_STATIC_DRAW);
 
+                instanceVBO.map(glBufferSize, buffer -> {
+                    for (D datum : data) {
+                        datum.write(buffer);
+                    }
+                });
+            }
+
+            dirtyInstances.clear();
             glInstanceCount = size;
             return true;
         }
         return false;
     }
 
-    private void removeDeletedInstances() {
-        // figure out which elements are to be removed
-        // any exception thrown from the filter predicate at this stage
-        // will leave the collection unmodified
-        final int oldSize = this.data.size();
-        int removeCount = 0;
-        final BitSet removeSet = new BitSet(oldSize);
-        for (int i = 0; i < oldSize; i++) {
-            final D element = this.data.get(i);
-            if (element.removed) {
-                removeSet.set(i);
-                removeCount++;
+    /**
+     * Writes every instance into each region of newly allocated, persistently
+     * mapped storage. Immutable storage can't be resized, and the old buffer may
+     * still be in use, so it is dropped and the driver frees it once the GPU is done.
+     */
+    private void allocatePersistent() {
+        deleteFences();
+        if (persistentBuffer != null) {
+            instanceVBO.unbind();
+            instanceVBO.delete();
+            instanceVBO = new GlBuffer(GL20.GL_ARRAY_BUFFER);
+            instanceVBO.bind();
+        }
+
+        persistentBuffer = instanceVBO.mapPersistent(glBufferSize * REGIONS);
+        for (int i = 0; i < REGIONS; i++) {
+            persistentBuffer.position(i * glBufferSize);
+            for (D datum : data) {
+                datum.write(persistentBuffer);
             }
+            regionDirty[i].clear();
         }
+        persistentBuffer.rewind();
+        region = 0;
+    }
 
-        final int newSize = oldSize - removeCount;
+    /**
+     * Removes deleted instances by moving the last instance into each freed
+     * slot, so only the moved instances need to be uploaded again.
+     */
+    private void removeDeletedInstances() {
+        final int oldSize = data.size();
 
-        // shift surviving elements left over the spaces left by removed elements
-        for (int i = 0, j = 0; (i < oldSize) && (j < newSize); i++, j++) {
-            i = removeSet.nextClearBit(i);
+        int i = 0;
+        while (i < data.size()) {
+            D element = data.get(i);
+            if (!element.removed) {
+                i++;
+                continue;
+            }
 
-            if (i != j) {
-                D element = data.get(i);
-                data.set(j, element);
-                element.dirty = true;
+            element.index = -1;
+            int last = data.size() - 1;
+            D moved = data.remove(last);
+            if (i != last) {
+                data.set(i, moved);
+                moved.index = i;
+                dirtyInstances.set(i);
+                anyToUpdate = true;
             }
         }
 
+        dirtyInstances.clear(data.size(), oldSize);
+        for (BitSet dirty : regionDirty)
+            dirty.clear(data.size(), oldSize);
+    }
+
+    /**
+     * Moves hidden instances behind all visible ones, so the visible ones can be
+     * drawn as a single range. Every moved instance gets uploaded again.
+     */
+    private void partitionHiddenInstances() {
+        int lo = 0;
+        int hi = data.size() - 1;
+
+        while (true) {
+            while (lo <= hi && !data.get(lo).hidden)
+                lo++;
+            while (hi >= lo && data.get(hi).hidden)
+                hi--;
+            if (lo >= hi)
+                break;
+
+            D hidden = data.get(lo);
+            D visible = data.get(hi);
+            data.set(lo, visible);
+            data.set(hi, hidden);
+            visible.index = lo;
+            hidden.index = hi;
+            dirtyInstances.set(lo);
+            dirtyInstances.set(hi);
+            lo++;
+            hi--;
+        }
+
+        visibleCount = lo;
+        // shown instances may still carry changes made while they were hidden
         anyToUpdate = true;
+    }
 
-        data.subList(newSize, oldSize).clear();
+    /**
+     * @return true if the GPU is done with the last draw from the given region.
+     * Never blocks.
+     */
+    private boolean pollFence(int region) {
+        if (fences[region] == 0)
+            return true;
+        int status = GL32.glClientWaitSync(fences[region], GL32.GL_SYNC_FLUSH_COMMANDS_BIT, 0);
+        if (status != GL32.GL_ALREADY_SIGNALED && status != GL32.GL_CONDITION_SATISFIED)
+            return false;
+        deleteFence(region);
+        return true;
+    }
+
+    private void deleteFence(int region) {
+        if (fences[region] == 0)
+            return;
+        GL32.glDeleteSync(fences[region]);
+        fences[region] = 0;
+    }
 
+    private void deleteFences() {
+        for (int i = 0; i < REGIONS; i++)
+            deleteFence(i);
     }
 
     @Override
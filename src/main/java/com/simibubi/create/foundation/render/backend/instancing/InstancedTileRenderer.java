@@ -6,6 +6,7 @@ import java.util.Map;
 
 import javax.annotation.Nullable;
 
+import com.simibubi.create.foundation.config.AllConfigs;
 import com.simibubi.create.foundation.render.backend.Backend;
 import com.simibubi.create.foundation.render.backend.MaterialType;
 import com.simibubi.create.foundation.render.backend.MaterialTypes;
@@ -14,11 +15,15 @@ import com.simibubi.create.foundation.render.backend.core.OrientedData;
 import com.simibubi.create.foundation.render.backend.gl.BasicProgram;
 import com.simibubi.create.foundation.render.backend.gl.shader.ShaderCallback;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.ActiveRenderInfo;
 import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.culling.ClippingHelper;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
 import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.util.math.vector.Vector3f;
 import net.minecraft.world.IBlockReader;
@@ -34,6 +39,10 @@ public abstract class InstancedTileRenderer<P extends BasicProgram> {
 
     protected Map<MaterialType<?>, RenderMaterial<P, ?>> materials = new HashMap<>();
 
+    protected Long2ObjectMap<InstanceSection> sections = new Long2ObjectOpenHashMap<>();
+    // Instance data created while this is set belongs to that section
+    private InstanceSection currentSection;
+
     protected int frame;
     protected int tick;
 
@@ -55,23 +64,51 @@ public abstract class InstancedTileRenderer<P extends BasicProgram> {
 
         if (tickableInstances.size() > 0) {
             for (ITickableInstance instance : tickableInstances.values()) {
+                BlockPos pos = instance.getWorldPosition();
+                InstanceSection section = getSection(pos);
+                if (section != null && !section.visible)
+                    continue;
+
                 if (!instance.decreaseTickRateWithDistance()) {
-                    instance.tick();
+                    runIn(section, instance::tick);
                     continue;
                 }
 
-                BlockPos pos = instance.getWorldPosition();
-
                 int dX = pos.getX() - cX;
                 int dY = pos.getY() - cY;
                 int dZ = pos.getZ() - cZ;
 
                 if ((tick % getUpdateDivisor(dX, dY, dZ)) == 0)
-                    instance.tick();
+                    runIn(section, instance::tick);
             }
         }
     }
 
+    /**
+     * Like {@link #beginFrame(ActiveRenderInfo, double, double, double)}, but first hides
+     * all chunk sections outside of the given frustum or the configured cull distance.
+     * Instances of hidden sections are neither drawn nor animated.
+     */
+    public void beginFrame(ActiveRenderInfo info, ClippingHelper frustum, double cameraX, double cameraY, double cameraZ) {
+        updateCulling(frustum, cameraX, cameraY, cameraZ);
+        beginFrame(info, cameraX, cameraY, cameraZ);
+    }
+
+    protected void updateCulling(ClippingHelper frustum, double cameraX, double cameraY, double cameraZ) {
+        boolean frustumCulling = AllConfigs.CLIENT.instanceCulling.get();
+        int cullDistance = AllConfigs.CLIENT.instanceCullDistance.get();
+        double maxDistanceSq = (double) cullDistance * cullDistance;
+
+        for (InstanceSection section : sections.values()) {
+            boolean visible = true;
+            if (frustumCulling && !frustum.isBoundingBoxInFrustum(section.bounds))
+                visible = false;
+            else if (cullDistance > 0 && section.distanceSq(cameraX, cameraY, cameraZ) > maxDistanceSq)
+                visible = false;
+            section.setVisible(visible);
+        }
+    }
+
     public void beginFrame(ActiveRenderInfo info, double cameraX, double cameraY, double cameraZ) {
         frame++;
         processQueuedAdditions();
@@ -88,13 +125,17 @@ public abstract class InstancedTileRenderer<P extends BasicProgram> {
 
         if (dynamicInstances.size() > 0) {
             for (IDynamicInstance dyn : dynamicInstances.values()) {
+                InstanceSection section = getSection(dyn.getWorldPosition());
+                if (section != null && !section.visible)
+                    continue;
+
                 if (!dyn.decreaseFramerateWithDistance()) {
-                    dyn.beginFrame();
+                    runIn(section, dyn::beginFrame);
                     continue;
                 }
 
                 if (shouldTick(dyn.getWorldPosition(), lookX, lookY, lookZ, cX, cY, cZ))
-                    dyn.beginFrame();
+                    runIn(section, dyn::beginFrame);
             }
         }
     }
@@ -171,7 +212,7 @@ public abstract class InstancedTileRenderer<P extends BasicProgram> {
 
                     createInternal(tile);
                 } else {
-                    instance.update();
+                    runIn(getSection(tile.getPos()), instance::update);
                 }
             }
         }
@@ -212,8 +253,26 @@ public abstract class InstancedTileRenderer<P extends BasicProgram> {
 
     protected int getUpdateDivisor(int dX, int dY, int dZ) {
         int dSq = dX * dX + dY * dY + dZ * dZ;
+        int lodDistance = AllConfigs.CLIENT.instanceLodDistance.get();
+
+        return (dSq / (lodDistance * lodDistance)) + 1;
+    }
 
-        return (dSq / 1024) + 1;
+    @Nullable
+    private InstanceSection getSection(BlockPos pos) {
+        return sections.get(SectionPos.from(pos).asLong());
+    }
+
+    private void runIn(@Nullable InstanceSection section, Runnable action) {
+        InstanceSection previous = currentSection;
+        currentSection = section;
+        action.run();
+        currentSection = previous;
+    }
+
+    void onInstanceCreated(InstanceData instanceData) {
+        if (currentSection != null)
+            currentSection.add(instanceData);
     }
 
     private void addInternal(TileEntity tile) {
@@ -233,14 +292,33 @@ public abstract class InstancedTileRenderer<P extends BasicProgram> {
         instances.remove(tile);
         dynamicInstances.remove(tile);
         tickableInstances.remove(tile);
+
+        long key = SectionPos.from(tile.getPos()).asLong();
+        InstanceSection section = sections.get(key);
+        if (section == null || !section.instances.remove(instance))
+            return;
+        if (section.instances.isEmpty())
+            sections.remove(key);
+        else
+            section.prune();
     }
 
     private <T extends TileEntity> TileEntityInstance<? super T> createInternal(T tile) {
+        long key = SectionPos.from(tile.getPos()).asLong();
+        InstanceSection section = sections.get(key);
+        if (section == null)
+            section = new InstanceSection(key);
+
+        InstanceSection previous = currentSection;
+        currentSection = section;
         TileEntityInstance<? super T> renderer = InstancedTileRenderRegistry.instance.create(this, tile);
+        currentSection = previous;
 
         if (renderer != null) {
             renderer.updateLight();
             instances.put(tile, renderer);
+            section.instances.add(renderer);
+            sections.put(key, section);
 
             if (renderer instanceof IDynamicInstance)
                 dynamicInstances.put(tile, (IDynamicInstance) renderer);
@@ -259,6 +337,7 @@ public abstract class InstancedTileRenderer<P extends BasicProgram> {
         instances.clear();
         dynamicInstances.clear();
         tickableInstances.clear();
+        sections.clear();
     }
 
     public boolean canCreateInstance(TileEntity tile) {
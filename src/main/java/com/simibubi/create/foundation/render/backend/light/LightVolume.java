@@ -1,6 +1,7 @@
 package com.simibubi.create.foundation.render.backend.light;
 
 import java.nio.ByteBuffer;
+import java.util.BitSet;
 
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL12;
@@ -19,11 +20,17 @@ import net.minecraft.world.LightType;
 
 public class LightVolume {
 
+    // light is tracked and uploaded in 16x16x16 sections of the texture volume
+    private static final int SECTION_BITS = 4;
+    private static final int SECTION_SIZE = 1 << SECTION_BITS;
+
     private GridAlignedBB sampleVolume;
     private GridAlignedBB textureVolume;
     private ByteBuffer lightData;
 
-    private boolean bufferDirty;
+    private final BitSet dirtySections = new BitSet();
+    private boolean fullyDirty;
+    private boolean textureResized;
     private boolean removed;
 
     private final GlTexture glTexture;
@@ -104,24 +111,57 @@ public class LightVolume {
     public void move(IBlockDisplayReader world, GridAlignedBB newSampleVolume) {
         if (textureVolume.contains(newSampleVolume)) {
             if (newSampleVolume.intersects(sampleVolume)) {
-                GridAlignedBB newArea = newSampleVolume.intersect(sampleVolume);
+                GridAlignedBB oldSampleVolume = sampleVolume;
                 sampleVolume = newSampleVolume;
 
-                copyLight(world, newArea);
+                copyNewArea(world, newSampleVolume, oldSampleVolume);
             } else {
                 sampleVolume = newSampleVolume;
                 initialize(world);
             }
         } else {
             setSampleVolume(newSampleVolume);
-            int volume = textureVolume.volume();
-            if (volume * 2 > lightData.capacity()) {
-                lightData = MemoryUtil.memRealloc(lightData, volume * 2);
+            int size = textureVolume.volume() * pixelFormat.byteCount();
+            if (size > lightData.capacity()) {
+                lightData = MemoryUtil.memRealloc(lightData, size);
             }
+            textureResized = true;
             initialize(world);
         }
     }
 
+    /**
+     * Copy light only for the part of the new sample volume that was not covered by the old one.
+     * The texture is aligned to the world, so the overlapping part is still valid.
+     */
+    private void copyNewArea(IBlockDisplayReader world, GridAlignedBB newVolume, GridAlignedBB oldVolume) {
+        GridAlignedBB remaining = newVolume.copy();
+
+        if (remaining.minX < oldVolume.minX) {
+            copyLight(world, new GridAlignedBB(remaining.minX, remaining.minY, remaining.minZ, oldVolume.minX, remaining.maxY, remaining.maxZ));
+            remaining.minX = oldVolume.minX;
+        }
+        if (remaining.maxX > oldVolume.maxX) {
+            copyLight(world, new GridAlignedBB(oldVolume.maxX, remaining.minY, remaining.minZ, remaining.maxX, remaining.maxY, remaining.maxZ));
+            remaining.maxX = oldVolume.maxX;
+        }
+        if (remaining.minY < oldVolume.minY) {
+            copyLight(world, new GridAlignedBB(remaining.minX, remaining.minY, remaining.minZ, remaining.maxX, oldVolume.minY, remaining.maxZ));
+            remaining.minY = oldVolume.minY;
+        }
+        if (remaining.maxY > oldVolume.maxY) {
+            copyLight(world, new GridAlignedBB(remaining.minX, oldVolume.maxY, remaining.minZ, remaining.maxX, remaining.maxY, remaining.maxZ));
+            remaining.maxY = oldVolume.maxY;
+        }
+        if (remaining.minZ < oldVolume.minZ) {
+            copyLight(world, new GridAlignedBB(remaining.minX, remaining.minY, remaining.minZ, remaining.maxX, remaining.maxY, oldVolume.minZ));
+            remaining.minZ = oldVolume.minZ;
+        }
+        if (remaining.maxZ > oldVolume.maxZ) {
+            copyLight(world, new GridAlignedBB(remaining.minX, remaining.minY, oldVolume.maxZ, remaining.maxX, remaining.maxY, remaining.maxZ));
+        }
+    }
+
     public void notifyLightUpdate(IBlockDisplayReader world, LightType type, GridAlignedBB changedVolume) {
         if (removed)
             return;
@@ -165,7 +205,7 @@ public class LightVolume {
             writeLight(x - shiftX, y - shiftY, z - shiftZ, blockLight, skyLight);
         });
 
-        bufferDirty = true;
+        fullyDirty = true;
     }
 
     /**
@@ -187,7 +227,7 @@ public class LightVolume {
             writeBlock(x - xShift, y - yShift, z - zShift, light);
         });
 
-        bufferDirty = true;
+        markDirty(worldVolume);
     }
 
     /**
@@ -209,7 +249,7 @@ public class LightVolume {
             writeSky(x - xShift, y - yShift, z - zShift, light);
         });
 
-        bufferDirty = true;
+        markDirty(worldVolume);
     }
 
     /**
@@ -232,7 +272,7 @@ public class LightVolume {
             writeLight(x - xShift, y - yShift, z - zShift, block, sky);
         });
 
-        bufferDirty = true;
+        markDirty(worldVolume);
     }
 
     public void bind() {
@@ -251,24 +291,92 @@ public class LightVolume {
     }
 
     private void uploadTexture() {
-        if (bufferDirty) {
-            GL20.glPixelStorei(GL20.GL_UNPACK_ROW_LENGTH, 0);
-            GL20.glPixelStorei(GL20.GL_UNPACK_SKIP_PIXELS, 0);
-            GL20.glPixelStorei(GL20.GL_UNPACK_SKIP_ROWS, 0);
-            GL20.glPixelStorei(GL20.GL_UNPACK_SKIP_IMAGES, 0);
-            GL20.glPixelStorei(GL20.GL_UNPACK_IMAGE_HEIGHT, 0);
-            GL20.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 2);
-            int sizeX = textureVolume.sizeX();
-            int sizeY = textureVolume.sizeY();
-            int sizeZ = textureVolume.sizeZ();
-
-            GL12.glTexSubImage3D(GL12.GL_TEXTURE_3D, 0, 0, 0, 0, sizeX, sizeY, sizeZ, pixelFormat.format(), GL20.GL_UNSIGNED_BYTE, lightData);
-
-            GL20.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 4); // 4 is the default
-            bufferDirty = false;
+        if (!textureResized && !fullyDirty && dirtySections.isEmpty())
+            return;
+
+        int sizeX = textureVolume.sizeX();
+        int sizeY = textureVolume.sizeY();
+        int sizeZ = textureVolume.sizeZ();
+
+        GL20.glPixelStorei(GL20.GL_UNPACK_ROW_LENGTH, sizeX);
+        GL20.glPixelStorei(GL20.GL_UNPACK_IMAGE_HEIGHT, sizeY);
+        GL20.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 2);
+
+        if (textureResized) {
+            setUnpackOffset(0, 0, 0);
+            GL12.glTexImage3D(GL12.GL_TEXTURE_3D, 0, pixelFormat.internalFormat(), sizeX, sizeY, sizeZ, 0, pixelFormat.format(), GL20.GL_UNSIGNED_BYTE, lightData);
+        } else if (fullyDirty || dirtySections.cardinality() * 2 > sectionCount()) {
+            uploadRegion(0, 0, 0, sizeX, sizeY, sizeZ);
+        } else {
+            int sectionsX = sectionsX();
+            int sectionsY = sectionsY();
+            for (int i = dirtySections.nextSetBit(0); i >= 0; i = dirtySections.nextSetBit(i + 1)) {
+                int x = (i % sectionsX) << SECTION_BITS;
+                int y = ((i / sectionsX) % sectionsY) << SECTION_BITS;
+                int z = (i / (sectionsX * sectionsY)) << SECTION_BITS;
+
+                uploadRegion(x, y, z, Math.min(SECTION_SIZE, sizeX - x), Math.min(SECTION_SIZE, sizeY - y), Math.min(SECTION_SIZE, sizeZ - z));
+            }
+        }
+
+        setUnpackOffset(0, 0, 0);
+        GL20.glPixelStorei(GL20.GL_UNPACK_ROW_LENGTH, 0);
+        GL20.glPixelStorei(GL20.GL_UNPACK_IMAGE_HEIGHT, 0);
+        GL20.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 4); // 4 is the default
+
+        textureResized = false;
+        fullyDirty = false;
+        dirtySections.clear();
+    }
+
+    private void uploadRegion(int x, int y, int z, int sizeX, int sizeY, int sizeZ) {
+        setUnpackOffset(x, y, z);
+        GL12.glTexSubImage3D(GL12.GL_TEXTURE_3D, 0, x, y, z, sizeX, sizeY, sizeZ, pixelFormat.format(), GL20.GL_UNSIGNED_BYTE, lightData);
+    }
+
+    private void setUnpackOffset(int x, int y, int z) {
+        GL20.glPixelStorei(GL20.GL_UNPACK_SKIP_PIXELS, x);
+        GL20.glPixelStorei(GL20.GL_UNPACK_SKIP_ROWS, y);
+        GL20.glPixelStorei(GL20.GL_UNPACK_SKIP_IMAGES, z);
+    }
+
+    /**
+     * Flag all sections of the texture touched by the given world region for upload.
+     */
+    private void markDirty(GridAlignedBB worldVolume) {
+        if (fullyDirty || worldVolume.empty() || !worldVolume.intersects(textureVolume))
+            return;
+        GridAlignedBB local = worldVolume.intersect(textureVolume);
+
+        int minX = (local.minX - textureVolume.minX) >> SECTION_BITS;
+        int minY = (local.minY - textureVolume.minY) >> SECTION_BITS;
+        int minZ = (local.minZ - textureVolume.minZ) >> SECTION_BITS;
+        int maxX = (local.maxX - 1 - textureVolume.minX) >> SECTION_BITS;
+        int maxY = (local.maxY - 1 - textureVolume.minY) >> SECTION_BITS;
+        int maxZ = (local.maxZ - 1 - textureVolume.minZ) >> SECTION_BITS;
+
+        int sectionsX = sectionsX();
+        int sectionsY = sectionsY();
+        for (int z = minZ; z <= maxZ; z++) {
+            for (int y = minY; y <= maxY; y++) {
+                int row = sectionsX * (y + sectionsY * z);
+                dirtySections.set(row + minX, row + maxX + 1);
+            }
         }
     }
 
+    private int sectionsX() {
+        return (textureVolume.sizeX() + SECTION_SIZE - 1) >> SECTION_BITS;
+    }
+
+    private int sectionsY() {
+        return (textureVolume.sizeY() + SECTION_SIZE - 1) >> SECTION_BITS;
+    }
+
+    private int sectionCount() {
+        return sectionsX() * sectionsY() * ((textureVolume.sizeZ() + SECTION_SIZE - 1) >> SECTION_BITS);
+    }
+
     public void unbind() {
         glTexture.unbind();
     }
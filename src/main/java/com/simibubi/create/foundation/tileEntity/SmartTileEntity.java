@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import com.simibubi.create.foundation.tileEntity.behaviour.BehaviourType;
@@ -25,6 +26,8 @@ public abstract class SmartTileEntity extends SyncedTileEntity implements ITicka
 	private boolean firstNbtRead;
 	private int lazyTickRate;
 	private int lazyTickCounter;
+	private TickWheel.Task lazyTickTask;
+	private long lastTickTime;
 
 	// Used for simulating this TE in a client-only setting
 	private boolean virtualMode;
@@ -57,14 +60,64 @@ public abstract class SmartTileEntity extends SyncedTileEntity implements ITicka
 		if (!initialized && hasWorld()) {
 			initialize();
 			initialized = true;
+			scheduleLazyTicks();
 		}
 
-		if (lazyTickCounter-- <= 0) {
+		lastTickTime = world.getGameTime();
+		if (lazyTickTask == null && lazyTickCounter-- <= 0) {
 			lazyTickCounter = lazyTickRate;
 			lazyTick();
+			// The wheel of this world may have started after this TE was initialized
+			scheduleLazyTicks();
 		}
 
-		behaviourList.forEach(TileEntityBehaviour::tick);
+		for (TileEntityBehaviour behaviour : behaviourList) {
+			if (!behaviour.isAsleep())
+				behaviour.tick();
+			else if (!behaviour.isScheduled())
+				behaviour.tickLazily();
+		}
+	}
+
+	/**
+	 * Moves the lazy ticks of this TE and its behaviours onto the tick wheel of its
+	 * world. Virtual TEs and TEs in worlds without a wheel keep counting them down
+	 * in tick(), and try again after each lazy tick.
+	 */
+	private void scheduleLazyTicks() {
+		if (virtualMode || lazyTickTask != null)
+			return;
+		TickWheel wheel = TickWheel.getIfDriven(world);
+		if (wheel == null)
+			return;
+		lazyTickTask = wheel.schedule(() -> {
+			if (tickedRecently())
+				lazyTick();
+		}, lazyTickCounter + 1, lazyTickRate + 1);
+		behaviourList.forEach(b -> b.scheduleLazyTicks(wheel));
+	}
+
+	private void cancelLazyTicks() {
+		if (lazyTickTask == null)
+			return;
+		lazyTickTask.cancel();
+		lazyTickTask = null;
+		behaviourList.forEach(TileEntityBehaviour::cancelLazyTicks);
+	}
+
+	/**
+	 * Whether tick() was called during the current or the previous game tick, i.e.
+	 * this TE is loaded in a ticking chunk.
+	 */
+	boolean tickedRecently() {
+		return !isRemoved() && hasWorld() && world.getGameTime() - lastTickTime <= 1;
+	}
+
+	/**
+	 * Wakes all sleeping behaviours, for changes that any of them may react to.
+	 */
+	public void wakeBehaviours() {
+		behaviourList.forEach(TileEntityBehaviour::wake);
 	}
 
 	public void initialize() {
@@ -118,15 +171,29 @@ public abstract class SmartTileEntity extends SyncedTileEntity implements ITicka
 		behaviourList.forEach(tb -> tb.write(compound, clientPacket));
 	}
 
+	@Override
+	protected void collectSyncEventKeys(Set<String> keys) {
+		behaviourList.forEach(tb -> tb.collectSyncEventKeys(keys));
+	}
+
 	@Override
 	public void remove() {
 		forEachBehaviour(TileEntityBehaviour::remove);
+		cancelLazyTicks();
 		super.remove();
 	}
 
+	@Override
+	public void onChunkUnloaded() {
+		cancelLazyTicks();
+		super.onChunkUnloaded();
+	}
+
 	public void setLazyTickRate(int slowTickRate) {
 		this.lazyTickRate = slowTickRate;
 		this.lazyTickCounter = slowTickRate;
+		if (lazyTickTask != null)
+			lazyTickTask.setPeriod(slowTickRate + 1);
 	}
 
 	public void lazyTick() {
@@ -140,6 +207,9 @@ public abstract class SmartTileEntity extends SyncedTileEntity implements ITicka
 	protected void attachBehaviourLate(TileEntityBehaviour behaviour) {
 		behaviours.put(behaviour.getType(), behaviour);
 		behaviour.initialize();
+		TickWheel wheel = lazyTickTask == null ? null : TickWheel.getIfDriven(world);
+		if (wheel != null)
+			behaviour.scheduleLazyTicks(wheel);
 
 		updateBehaviorList();
 	}
@@ -148,6 +218,7 @@ public abstract class SmartTileEntity extends SyncedTileEntity implements ITicka
 		TileEntityBehaviour remove = behaviours.remove(type);
 		if (remove != null) {
 			remove.remove();
+			remove.cancelLazyTicks();
 			updateBehaviorList();
 		}
 	}
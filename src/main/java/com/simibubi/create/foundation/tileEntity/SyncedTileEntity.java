@@ -1,22 +1,39 @@
 package com.simibubi.create.foundation.tileEntity;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import com.simibubi.create.foundation.networking.TileEntitySyncPacket;
+
+
 import mcp.MethodsReturnNonnullByDefault;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.StringNBT;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SUpdateTileEntityPacket;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.math.SectionPos;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.network.PacketDistributor;
 
 @MethodsReturnNonnullByDefault
 @ParametersAreNonnullByDefault
 public abstract class SyncedTileEntity extends TileEntity {
 
+	// The client data last sent to (server side) or received from (client side) the tracking players
+	private CompoundNBT syncedTag;
+
 	public SyncedTileEntity(TileEntityType<?> tileEntityTypeIn) {
 		super(tileEntityTypeIn);
 	}
@@ -28,17 +45,68 @@ public abstract class SyncedTileEntity extends TileEntity {
 
 	@Override
 	public CompoundNBT getUpdateTag() {
-		return write(new CompoundNBT());
+		CompoundNBT tag = write(new CompoundNBT());
+		if (world instanceof ServerWorld) {
+			// Players receiving the full tag need the same base for later deltas
+			TileEntitySyncHandler.flush(this);
+			tag.put("SyncBase", describeSyncBase(getSyncedTag(), tag));
+		}
+		return tag;
 	}
 
 	@Override
 	public void handleUpdateTag(BlockState state, CompoundNBT tag) {
+		syncedTag = null;
+		if (tag.contains("SyncBase")) {
+			CompoundNBT description = tag.getCompound("SyncBase");
+			tag.remove("SyncBase");
+			syncedTag = withoutSyncEvents(restoreSyncBase(description, tag));
+		}
 		fromTag(state, tag);
 	}
 
+	/**
+	 * The client data mostly repeats the saved data, so only the keys in which the
+	 * two differ are sent along with it.
+	 */
+	private static CompoundNBT describeSyncBase(CompoundNBT base, CompoundNBT saved) {
+		CompoundNBT differing = new CompoundNBT();
+		for (String key : base.keySet()) {
+			INBT value = base.get(key);
+			if (!value.equals(saved.get(key)))
+				differing.put(key, value);
+		}
+		ListNBT omitted = new ListNBT();
+		for (String key : saved.keySet())
+			if (!base.contains(key))
+				omitted.add(StringNBT.valueOf(key));
+
+		CompoundNBT description = new CompoundNBT();
+		description.put("Differing", differing);
+		description.put("Omitted", omitted);
+		return description;
+	}
+
+	private static CompoundNBT restoreSyncBase(CompoundNBT description, CompoundNBT saved) {
+		CompoundNBT base = saved.copy();
+		ListNBT omitted = description.getList("Omitted", NBT.TAG_STRING);
+		for (int i = 0; i < omitted.size(); i++)
+			base.remove(omitted.getString(i));
+		CompoundNBT differing = description.getCompound("Differing");
+		for (String key : differing.keySet())
+			base.put(key, differing.get(key));
+		return base;
+	}
+
 	public void sendData() {
-		if (world != null)
+		if (world == null)
+			return;
+		// Batched syncing only applies to tile entities in a ticking server world
+		if (!(world instanceof ServerWorld)) {
 			world.notifyBlockUpdate(getPos(), getBlockState(), getBlockState(), 2 | 4 | 16);
+			return;
+		}
+		TileEntitySyncHandler.markDirty(this);
 	}
 
 	public void causeBlockUpdate() {
@@ -48,14 +116,85 @@ public abstract class SyncedTileEntity extends TileEntity {
 
 	@Override
 	public SUpdateTileEntityPacket getUpdatePacket() {
-		return new SUpdateTileEntityPacket(getPos(), 1, writeToClient(new CompoundNBT()));
+		CompoundNBT tag = writeToClient(new CompoundNBT());
+		syncedTag = withoutSyncEvents(tag.copy());
+		return new SUpdateTileEntityPacket(getPos(), 1, tag);
 	}
 
 	@Override
 	public void onDataPacket(NetworkManager net, SUpdateTileEntityPacket pkt) {
+		syncedTag = withoutSyncEvents(pkt.getNbtCompound()
+			.copy());
 		readClientUpdate(getBlockState(), pkt.getNbtCompound());
 	}
 
+	private CompoundNBT getSyncedTag() {
+		if (syncedTag == null)
+			syncedTag = withoutSyncEvents(writeToClient(new CompoundNBT()));
+		return syncedTag;
+	}
+
+	/**
+	 * Adds the keys of client data that announce a one-time event rather than
+	 * state, such as an animation to play. These are sent whenever they are
+	 * written, even if the value equals the previous event, and are never kept in
+	 * the base that later syncs are compared against.
+	 */
+	protected void collectSyncEventKeys(Set<String> keys) {}
+
+	private CompoundNBT withoutSyncEvents(CompoundNBT tag) {
+		Set<String> eventKeys = new HashSet<>();
+		collectSyncEventKeys(eventKeys);
+		for (String key : eventKeys)
+			tag.remove(key);
+		return tag;
+	}
+
+	/**
+	 * Adds the client data that changed since the last sync to a batched packet.
+	 */
+	void writeSyncDelta(TileEntitySyncPacket packet) {
+		CompoundNBT current = writeToClient(new CompoundNBT());
+		CompoundNBT previous = syncedTag;
+		Set<String> eventKeys = new HashSet<>();
+		collectSyncEventKeys(eventKeys);
+		syncedTag = current.copy();
+		for (String key : eventKeys)
+			syncedTag.remove(key);
+
+		if (previous == null) {
+			packet.add(getPos(), true, current, Collections.emptyList());
+			return;
+		}
+
+		CompoundNBT changed = new CompoundNBT();
+		for (String key : current.keySet()) {
+			INBT value = current.get(key);
+			if (eventKeys.contains(key) || !value.equals(previous.get(key)))
+				changed.put(key, value);
+		}
+		List<String> removed = new ArrayList<>();
+		for (String key : previous.keySet())
+			if (!current.contains(key))
+				removed.add(key);
+
+		if (!changed.isEmpty() || !removed.isEmpty())
+			packet.add(getPos(), false, changed, removed);
+	}
+
+	/**
+	 * Rebuilds the full client data from a batched sync entry and applies it.
+	 */
+	public void applySyncDelta(boolean full, CompoundNBT changed, List<String> removed) {
+		CompoundNBT tag = full || syncedTag == null ? new CompoundNBT() : syncedTag;
+		for (String key : removed)
+			tag.remove(key);
+		for (String key : changed.keySet())
+			tag.put(key, changed.get(key));
+		readClientUpdate(getBlockState(), tag.copy());
+		syncedTag = withoutSyncEvents(tag);
+	}
+
 	// Special handling for client update packets
 	public void readClientUpdate(BlockState state, CompoundNBT tag) {
 		fromTag(state, tag);
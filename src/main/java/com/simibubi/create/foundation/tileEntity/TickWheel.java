@@ -0,0 +1,127 @@
+package com.simibubi.create.foundation.tileEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import net.minecraft.world.IWorld;
+import net.minecraft.world.server.ServerWorld;
+
+/**
+ * Hashed timing wheel driving the lazy ticks of smart tile entities and their
+ * behaviours. Each tick only visits the slot that is due, instead of every
+ * tile entity counting down on its own.
+ */
+public class TickWheel {
+
+	private static final int SLOTS = 64;
+	private static final WorldAttached<TickWheel> WHEELS = new WorldAttached<>(TickWheel::new);
+
+	private List<List<Task>> slots;
+	private List<Task> processing;
+	private int cursor;
+
+	private TickWheel() {
+		slots = new ArrayList<>(SLOTS);
+		for (int i = 0; i < SLOTS; i++)
+			slots.add(new ArrayList<>());
+		processing = new ArrayList<>();
+	}
+
+	/**
+	 * Advances the wheel of a world by one tick. Only worlds that are advanced here
+	 * schedule lazy ticks on a wheel, tile entities in any other world keep
+	 * counting them down themselves.
+	 */
+	public static void tick(IWorld world) {
+		WHEELS.get(world)
+			.advance();
+	}
+
+	/**
+	 * The wheel of a world that is advanced by {@link #tick(IWorld)}. Worlds run by
+	 * the server get theirs right away, as tile entities in spawn chunks initialize
+	 * before the first world tick.
+	 */
+	@Nullable
+	public static TickWheel getIfDriven(IWorld world) {
+		if (isTickedByServer(world))
+			return WHEELS.get(world);
+		return WHEELS.getIfPresent(world);
+	}
+
+	private static boolean isTickedByServer(IWorld world) {
+		if (!(world instanceof ServerWorld))
+			return false;
+		ServerWorld serverWorld = (ServerWorld) world;
+		return serverWorld.getServer()
+			.getWorld(serverWorld.getRegistryKey()) == serverWorld;
+	}
+
+	/**
+	 * @param delay  ticks until the first run, at least 1
+	 * @param period ticks between runs, or 0 to run only once
+	 */
+	public Task schedule(Runnable action, int delay, int period) {
+		Task task = new Task(action, period);
+		insert(task, delay);
+		return task;
+	}
+
+	private void insert(Task task, int delay) {
+		delay = Math.max(1, delay);
+		task.rounds = (delay - 1) / SLOTS;
+		slots.get((cursor + delay) & (SLOTS - 1))
+			.add(task);
+	}
+
+	private void advance() {
+		cursor = (cursor + 1) & (SLOTS - 1);
+		List<Task> due = slots.get(cursor);
+		if (due.isEmpty())
+			return;
+
+		// Tasks scheduled while running land in the fresh list
+		slots.set(cursor, processing);
+		processing = due;
+
+		for (Task task : due) {
+			if (task.cancelled)
+				continue;
+			if (task.rounds > 0) {
+				task.rounds--;
+				slots.get(cursor)
+					.add(task);
+				continue;
+			}
+			task.action.run();
+			if (!task.cancelled && task.period > 0)
+				insert(task, task.period);
+		}
+		due.clear();
+	}
+
+	public static class Task {
+		private Runnable action;
+		private int period;
+		private int rounds;
+		private boolean cancelled;
+
+		private Task(Runnable action, int period) {
+			this.action = action;
+			this.period = period;
+		}
+
+		public void setPeriod(int period) {
+			this.period = period;
+		}
+
+		public void cancel() {
+			cancelled = true;
+		}
+	}
+
+}
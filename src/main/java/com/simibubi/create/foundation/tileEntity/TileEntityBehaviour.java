@@ -1,5 +1,7 @@
 package com.simibubi.create.foundation.tileEntity;
 
+import java.util.Set;
+
 import com.simibubi.create.foundation.tileEntity.behaviour.BehaviourType;
 
 import net.minecraft.block.BlockState;
@@ -14,6 +16,8 @@ public abstract class TileEntityBehaviour {
 	public SmartTileEntity tileEntity;
 	private int lazyTickRate;
 	private int lazyTickCounter;
+	private TickWheel.Task lazyTickTask;
+	private boolean asleep;
 
 	public TileEntityBehaviour(SmartTileEntity te) {
 		tileEntity = te;
@@ -27,11 +31,52 @@ public abstract class TileEntityBehaviour {
 	}
 
 	public void tick() {
+		if (lazyTickTask == null)
+			tickLazily();
+	}
+
+	void tickLazily() {
 		if (lazyTickCounter-- <= 0) {
 			lazyTickCounter = lazyTickRate;
 			lazyTick();
 		}
+	}
 
+	void scheduleLazyTicks(TickWheel wheel) {
+		if (lazyTickTask != null)
+			return;
+		lazyTickTask = wheel.schedule(() -> {
+			if (tileEntity.tickedRecently())
+				lazyTick();
+		}, lazyTickCounter + 1, lazyTickRate + 1);
+	}
+
+	void cancelLazyTicks() {
+		if (lazyTickTask == null)
+			return;
+		lazyTickTask.cancel();
+		lazyTickTask = null;
+	}
+
+	boolean isScheduled() {
+		return lazyTickTask != null;
+	}
+
+	/**
+	 * Stops calls to tick() until this behaviour is woken up again. Lazy ticks are
+	 * still delivered while asleep. Behaviours going to sleep have to make sure
+	 * every change that needs ticking again calls {@link #wake()}.
+	 */
+	protected void sleep() {
+		asleep = true;
+	}
+
+	public void wake() {
+		asleep = false;
+	}
+
+	public boolean isAsleep() {
+		return asleep;
 	}
 
 	public void read(CompoundNBT nbt, boolean clientPacket) {
@@ -42,6 +87,13 @@ public abstract class TileEntityBehaviour {
 
 	}
 
+	/**
+	 * @see SyncedTileEntity#collectSyncEventKeys(Set)
+	 */
+	public void collectSyncEventKeys(Set<String> keys) {
+
+	}
+
 	public void onBlockChanged(BlockState oldState) {
 
 	}
@@ -61,6 +113,8 @@ public abstract class TileEntityBehaviour {
 	public void setLazyTickRate(int slowTickRate) {
 		this.lazyTickRate = slowTickRate;
 		this.lazyTickCounter = slowTickRate;
+		if (lazyTickTask != null)
+			lazyTickTask.setPeriod(slowTickRate + 1);
 	}
 
 	public void lazyTick() {
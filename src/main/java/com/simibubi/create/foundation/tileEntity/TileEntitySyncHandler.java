@@ -0,0 +1,79 @@
+package com.simibubi.create.foundation.tileEntity;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.simibubi.create.foundation.networking.AllPackets;
+import com.simibubi.create.foundation.networking.TileEntitySyncPacket;
+import com.simibubi.create.foundation.utility.WorldAttached;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+/**
+ * Collects tile entities that requested a client sync during a tick and sends
+ * their changes at the end of it, one packet per chunk.
+ */
+public class TileEntitySyncHandler {
+
+	private static final WorldAttached<Set<SyncedTileEntity>> DIRTY = new WorldAttached<>(LinkedHashSet::new);
+
+	public static void markDirty(SyncedTileEntity te) {
+		DIRTY.get(te.getWorld())
+			.add(te);
+	}
+
+	public static void tick(World world) {
+		Set<SyncedTileEntity> dirty = DIRTY.get(world);
+		if (dirty.isEmpty())
+			return;
+
+		Long2ObjectMap<TileEntitySyncPacket> packets = new Long2ObjectLinkedOpenHashMap<>();
+		Long2ObjectMap<Chunk> chunks = new Long2ObjectLinkedOpenHashMap<>();
+		for (SyncedTileEntity te : dirty) {
+			if (te.isRemoved() || te.getWorld() != world || !world.isBlockPresent(te.getPos()))
+				continue;
+			BlockPos pos = te.getPos();
+			long key = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+			TileEntitySyncPacket packet = packets.get(key);
+			if (packet == null) {
+				packet = new TileEntitySyncPacket();
+				packets.put(key, packet);
+				chunks.put(key, te.containedChunk());
+			}
+			te.writeSyncDelta(packet);
+		}
+		dirty.clear();
+
+		for (Long2ObjectMap.Entry<TileEntitySyncPacket> entry : packets.long2ObjectEntrySet()) {
+			TileEntitySyncPacket packet = entry.getValue();
+			if (packet.isEmpty())
+				continue;
+			Chunk chunk = chunks.get(entry.getLongKey());
+			AllPackets.channel.send(PacketDistributor.TRACKING_CHUNK.with(() -> chunk), packet);
+		}
+	}
+
+	/**
+	 * Sends the pending changes of a single tile entity right away, so the
+	 * client state it was last synced with matches its current data.
+	 */
+	public static void flush(SyncedTileEntity te) {
+		World world = te.getWorld();
+		if (world == null || world.isRemote)
+			return;
+		DIRTY.get(world)
+			.remove(te);
+
+		TileEntitySyncPacket packet = new TileEntitySyncPacket();
+		te.writeSyncDelta(packet);
+		if (!packet.isEmpty())
+			AllPackets.channel.send(te.packetTarget(), packet);
+	}
+
+}
@@ -1,8 +1,10 @@
 package com.simibubi.create.foundation.tileEntity.behaviour.filtering;
 
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import com.simibubi.create.content.logistics.item.filter.CompiledFilter;
 import com.simibubi.create.content.logistics.item.filter.FilterItem;
 import com.simibubi.create.foundation.networking.AllPackets;
 import com.simibubi.create.foundation.tileEntity.SmartTileEntity;
@@ -30,6 +32,7 @@ public class FilteringBehaviour extends TileEntityBehaviour {
 	Vector3d textShift;
 
 	private ItemStack filter;
+	private CompiledFilter compiledFilter;
 	public int count;
 	private Consumer<ItemStack> callback;
 	private Supplier<Boolean> isActive;
@@ -44,6 +47,7 @@ public class FilteringBehaviour extends TileEntityBehaviour {
 	public FilteringBehaviour(SmartTileEntity te, ValueBoxTransform slot) {
 		super(te);
 		filter = ItemStack.EMPTY;
+		compiledFilter = CompiledFilter.EMPTY;
 		slotPositioning = slot;
 		showCount = false;
 		callback = stack -> {
@@ -57,6 +61,11 @@ public class FilteringBehaviour extends TileEntityBehaviour {
 		fluidFilter = false;
 	}
 
+	@Override
+	public void collectSyncEventKeys(Set<String> keys) {
+		keys.add("ForceScrollable");
+	}
+
 	@Override
 	public void write(CompoundNBT nbt, boolean clientPacket) {
 		nbt.put("Filter", getFilter().serializeNBT());
@@ -72,6 +81,7 @@ public class FilteringBehaviour extends TileEntityBehaviour {
 	@Override
 	public void read(CompoundNBT nbt, boolean clientPacket) {
 		filter = ItemStack.read(nbt.getCompound("Filter"));
+		compiledFilter = CompiledFilter.of(filter);
 		count = nbt.getInt("FilterAmount");
 		if (nbt.contains("ForceScrollable")) {
 			scrollableValue = count;
@@ -84,10 +94,11 @@ public class FilteringBehaviour extends TileEntityBehaviour {
 	public void tick() {
 		super.tick();
 
-		if (!getWorld().isRemote)
-			return;
-		if (ticksUntilScrollPacket == -1)
+		if (!getWorld().isRemote || ticksUntilScrollPacket == -1) {
+			// Nothing to do until the value is scrolled again
+			sleep();
 			return;
+		}
 		if (ticksUntilScrollPacket > 0) {
 			ticksUntilScrollPacket--;
 			return;
@@ -145,6 +156,7 @@ public class FilteringBehaviour extends TileEntityBehaviour {
 	public void setFilter(ItemStack stack) {
 		boolean confirm = ItemHandlerHelper.canItemStacksStack(stack, filter);
 		filter = stack.copy();
+		compiledFilter = CompiledFilter.of(filter);
 		callback.accept(filter);
 		count = !confirm ? 0
 			: (filter.getItem() instanceof FilterItem) ? 0 : Math.min(stack.getCount(), stack.getMaxStackSize());
@@ -178,11 +190,11 @@ public class FilteringBehaviour extends TileEntityBehaviour {
 	}
 
 	public boolean test(ItemStack stack) {
-		return !isActive() || filter.isEmpty() || FilterItem.test(tileEntity.getWorld(), stack, filter);
+		return !isActive() || filter.isEmpty() || compiledFilter.test(tileEntity.getWorld(), stack);
 	}
 
 	public boolean test(FluidStack stack) {
-		return !isActive() || filter.isEmpty() || FilterItem.test(tileEntity.getWorld(), stack, filter);
+		return !isActive() || filter.isEmpty() || compiledFilter.test(tileEntity.getWorld(), stack);
 	}
 
 	@Override
@@ -22,7 +22,6 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
-import net.minecraftforge.items.ItemHandlerHelper;
 
 public class InvManipulationBehaviour extends TileEntityBehaviour {
 
@@ -121,7 +120,7 @@ public class InvManipulationBehaviour extends TileEntityBehaviour {
 		IItemHandler inventory = targetCapability.orElse(null);
 		if (inventory == null)
 			return stack;
-		return ItemHandlerHelper.insertItemStacked(inventory, stack, shouldSimulate);
+		return ItemHelper.insertStacked(inventory, stack, shouldSimulate);
 	}
 
 	protected Predicate<ItemStack> getFilterTest(Predicate<ItemStack> customFilter) {
@@ -136,6 +135,7 @@ public class InvManipulationBehaviour extends TileEntityBehaviour {
 	public void initialize() {
 		super.initialize();
 		findNewNextTick = true;
+		wake();
 	}
 
 	@Override
@@ -147,6 +147,7 @@ public class InvManipulationBehaviour extends TileEntityBehaviour {
 
 	protected void onHandlerInvalidated(LazyOptional<IItemHandler> handler) {
 		findNewNextTick = true;
+		wake();
 		targetCapability = LazyOptional.empty();
 	}
 
@@ -164,6 +165,7 @@ public class InvManipulationBehaviour extends TileEntityBehaviour {
 			findNewNextTick = false;
 			findNewCapability();
 		}
+		sleep();
 	}
 
 	public int getAmountFromFilter() {
@@ -1,5 +1,6 @@
 package com.simibubi.create.foundation.tileEntity.behaviour.scrollvalue;
 
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -54,6 +55,11 @@ public class ScrollValueBehaviour extends TileEntityBehaviour {
 		ticksUntilScrollPacket = -1;
 	}
 
+	@Override
+	public void collectSyncEventKeys(Set<String> keys) {
+		keys.add("ForceScrollable");
+	}
+
 	@Override
 	public void write(CompoundNBT nbt, boolean clientPacket) {
 		nbt.putInt("ScrollValue", value);
@@ -78,10 +84,11 @@ public class ScrollValueBehaviour extends TileEntityBehaviour {
 	public void tick() {
 		super.tick();
 
-		if (!getWorld().isRemote)
-			return;
-		if (ticksUntilScrollPacket == -1)
+		if (!getWorld().isRemote || ticksUntilScrollPacket == -1) {
+			// Nothing to do until the value is scrolled again
+			sleep();
 			return;
+		}
 		if (ticksUntilScrollPacket > 0) {
 			ticksUntilScrollPacket--;
 			return;
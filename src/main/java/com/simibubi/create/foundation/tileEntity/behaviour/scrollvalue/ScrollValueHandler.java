@@ -82,6 +82,7 @@ public class ScrollValueHandler {
 
 	protected static void applyTo(double delta, ScrollValueBehaviour scrolling) {
 		scrolling.ticksUntilScrollPacket = 10;
+		scrolling.wake();
 		int valueBefore = scrolling.scrollableValue;
 
 		StepContext context = new StepContext();
@@ -29,6 +29,8 @@ public class DeferralBehaviour extends TileEntityBehaviour {
 	@Override
 	public void read(CompoundNBT nbt, boolean clientPacket) {
 		needsUpdate = nbt.getBoolean("NeedsUpdate");
+		if (needsUpdate)
+			wake();
 		super.read(nbt, clientPacket);
 	}
 
@@ -37,10 +39,13 @@ public class DeferralBehaviour extends TileEntityBehaviour {
 		super.tick();
 		if (needsUpdate && callback.get())
 			needsUpdate = false;
+		if (!needsUpdate)
+			sleep();
 	}
 	
 	public void scheduleUpdate() {
 		needsUpdate = true;
+		wake();
 	}
 
 	@Override
@@ -0,0 +1,74 @@
+package com.simibubi.create.foundation.utility;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Set of block positions stored as packed longs, avoiding an entry and a
+ * position object per element in sets of many thousand positions.
+ */
+public class BlockPosSet extends AbstractSet<BlockPos> {
+
+	private final LongOpenHashSet positions = new LongOpenHashSet();
+
+	public boolean contains(long pos) {
+		return positions.contains(pos);
+	}
+
+	public boolean add(long pos) {
+		return positions.add(pos);
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof BlockPos && positions.contains(((BlockPos) o).toLong());
+	}
+
+	@Override
+	public boolean add(BlockPos pos) {
+		return positions.add(pos.toLong());
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		return o instanceof BlockPos && positions.remove(((BlockPos) o).toLong());
+	}
+
+	@Override
+	public Iterator<BlockPos> iterator() {
+		LongIterator iterator = positions.iterator();
+		return new Iterator<BlockPos>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public BlockPos next() {
+				return BlockPos.fromLong(iterator.nextLong());
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+			}
+
+		};
+	}
+
+	@Override
+	public int size() {
+		return positions.size();
+	}
+
+	@Override
+	public void clear() {
+		positions.clear();
+	}
+
+}
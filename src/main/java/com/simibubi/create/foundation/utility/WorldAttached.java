@@ -37,6 +37,11 @@ public class WorldAttached<T> {
 		return entry;
 	}
 
+	@Nullable
+	public T getIfPresent(IWorld world) {
+		return attached.get(world);
+	}
+
 	public void put(IWorld world, T entry) {
 		attached.put(world, entry);
 	}
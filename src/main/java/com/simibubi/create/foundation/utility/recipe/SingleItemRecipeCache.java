@@ -0,0 +1,131 @@
+package com.simibubi.create.foundation.utility.recipe;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import net.minecraft.client.resources.ReloadListener;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.profiler.IProfiler;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.world.World;
+import net.minecraftforge.items.ItemStackHandler;
+import net.minecraftforge.items.wrapper.RecipeWrapper;
+
+/**
+ * Memoizes recipe lookups for a single input stack, keyed by recipe type, item
+ * and tag. Misses are remembered as well. Entries are dropped whenever data
+ * packs are reloaded.
+ */
+public class SingleItemRecipeCache {
+
+	private static Cache<Key, Optional<IRecipe<?>>> cachedLookups = CacheBuilder.newBuilder()
+		.maximumSize(8192)
+		.build();
+
+	private static final RecipeWrapper inv = new RecipeWrapper(new ItemStackHandler(1));
+
+	/**
+	 * Find the first recipe of the given type that accepts the stack, for recipe
+	 * types matching against a plain {@link RecipeWrapper}.
+	 *
+	 * @param type
+	 * @param stack
+	 * @param world
+	 * @return The matching recipe, if any
+	 */
+	public static <T extends IRecipe<?>> Optional<T> find(IRecipeType<T> type, ItemStack stack, World world) {
+		return find(type, stack, world, inv);
+	}
+
+	/**
+	 * Find the first recipe of the given type that accepts the stack. Only server
+	 * lookups are cached, the client receives its recipes separately.
+	 *
+	 * @param type
+	 * @param stack
+	 * @param world
+	 * @param inv   a single slot inventory of the type the recipes expect
+	 * @return The matching recipe, if any
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends IRecipe<?>> Optional<T> find(IRecipeType<T> type, ItemStack stack, World world,
+		RecipeWrapper inv) {
+		if (stack.isEmpty())
+			return Optional.empty();
+		if (world.isRemote)
+			return (Optional<T>) lookup(type, stack, world, inv);
+
+		try {
+			return (Optional<T>) cachedLookups.get(new Key(type, stack), () -> lookup(type, stack, world, inv));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			e.printStackTrace();
+		}
+
+		return Optional.empty();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Optional<IRecipe<?>> lookup(IRecipeType<?> type, ItemStack stack, World world,
+		RecipeWrapper inv) {
+		synchronized (inv) {
+			inv.setInventorySlotContents(0, stack);
+			Optional<IRecipe<?>> recipe = world.getRecipeManager()
+				.getRecipe((IRecipeType) type, (IInventory) inv, world);
+			inv.setInventorySlotContents(0, ItemStack.EMPTY);
+			return recipe;
+		}
+	}
+
+	private static class Key {
+
+		private final IRecipeType<?> type;
+		private final Item item;
+		private final CompoundNBT tag;
+
+		private Key(IRecipeType<?> type, ItemStack stack) {
+			this.type = type;
+			this.item = stack.getItem();
+			this.tag = stack.hasTag() ? stack.getTag()
+				.copy() : null;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return type == other.type && item == other.item && Objects.equals(tag, other.tag);
+		}
+
+		@Override
+		public int hashCode() {
+			return (type.hashCode() * 31 + item.hashCode()) * 31 + Objects.hashCode(tag);
+		}
+
+	}
+
+	public static final ReloadListener<Object> LISTENER = new ReloadListener<Object>() {
+
+		@Override
+		protected Object prepare(IResourceManager p_212854_1_, IProfiler p_212854_2_) {
+			return new Object();
+		}
+
+		@Override
+		protected void apply(Object p_212853_1_, IResourceManager p_212853_2_, IProfiler p_212853_3_) {
+			cachedLookups.invalidateAll();
+		}
+
+	};
+
+}